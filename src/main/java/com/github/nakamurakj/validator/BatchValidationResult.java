@@ -0,0 +1,264 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.validation.ConstraintViolation;
+
+import com.github.nakamurakj.validator.BeanValidator.ValidateMessage;
+
+/**
+ * 複数のBeanのValidation結果を保持するクラス。
+ *
+ * <p>
+ * エラーは要素の位置(0始まり)の昇順に、位置と{@link ConstraintViolation}の配列で保持する。
+ * エラーのない要素に対してはオブジェクトを作成しない。
+ * </p>
+ *
+ * @param <T> 検証を行うクラス
+ */
+public final class BatchValidationResult<T> {
+
+    /** 配列の初期サイズ */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** 空の配列 */
+    private static final int[] EMPTY_INDEXES = new int[0];
+
+    /** 空の配列 */
+    private static final Object[] EMPTY_VIOLATIONS = new Object[0];
+
+    /** エラーごとの要素の位置 */
+    private int[] indexes = EMPTY_INDEXES;
+
+    /** エラーごとの{@link ConstraintViolation} */
+    private Object[] violations = EMPTY_VIOLATIONS;
+
+    /** エラー件数 */
+    private int size;
+
+    /** エラーのあった要素数 */
+    private int failedCount;
+
+    /** 検証した要素数 */
+    private int validatedCount;
+
+    /** エラー要素数の上限で検証を打ち切ったか */
+    private boolean stopped;
+
+    /**
+     * コンストラクタ
+     */
+    BatchValidationResult() {
+        // ignore
+    }
+
+    /**
+     * 要素の検証結果を追加する。
+     *
+     * @param index 要素の位置
+     * @param constraintViolations 要素のエラー
+     */
+    void add(final int index, final Collection<ConstraintViolation<T>> constraintViolations) {
+        validatedCount++;
+        final int count = constraintViolations.size();
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        for (final ConstraintViolation<T> violation : constraintViolations) {
+            indexes[size] = index;
+            violations[size] = violation;
+            size++;
+        }
+        failedCount++;
+    }
+
+    /**
+     * 後続の要素の検証結果を連結する。
+     *
+     * @param result 後続の要素の検証結果
+     */
+    void append(final BatchValidationResult<T> result) {
+        ensureCapacity(size + result.size);
+        System.arraycopy(result.indexes, 0, indexes, size, result.size);
+        System.arraycopy(result.violations, 0, violations, size, result.size);
+        size += result.size;
+        failedCount += result.failedCount;
+        validatedCount += result.validatedCount;
+        stopped |= result.stopped;
+    }
+
+    /**
+     * エラー要素数の上限で検証を打ち切ったことを設定する。
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 配列の容量を確保する。
+     *
+     * @param capacity 必要な容量
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= indexes.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity,
+                Math.max(INITIAL_CAPACITY, indexes.length + (indexes.length >> 1)));
+        indexes = Arrays.copyOf(indexes, newCapacity);
+        violations = Arrays.copyOf(violations, newCapacity);
+    }
+
+    /**
+     * すべての要素にエラーがないかを取得する。
+     *
+     * @return エラーがない場合<code>true</code>
+     */
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    /**
+     * エラー件数を取得する。
+     *
+     * @return エラー件数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * エラーのあった要素数を取得する。
+     *
+     * @return エラーのあった要素数
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * 検証した要素数を取得する。
+     *
+     * @return 検証した要素数
+     */
+    public int getValidatedCount() {
+        return validatedCount;
+    }
+
+    /**
+     * エラー要素数の上限で検証を打ち切ったかを取得する。
+     *
+     * @return 打ち切った場合<code>true</code>
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * エラーの要素の位置を取得する。
+     *
+     * @param i エラーの位置(0～{@link #size()}-1)
+     * @return 要素の位置
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public int getIndex(final int i) throws IndexOutOfBoundsException {
+        checkIndex(i);
+        return indexes[i];
+    }
+
+    /**
+     * エラーの{@link ConstraintViolation}を取得する。
+     *
+     * @param i エラーの位置(0～{@link #size()}-1)
+     * @return {@link ConstraintViolation}
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    @SuppressWarnings("unchecked")
+    public ConstraintViolation<T> getConstraintViolation(final int i)
+            throws IndexOutOfBoundsException {
+        checkIndex(i);
+        return (ConstraintViolation<T>) violations[i];
+    }
+
+    /**
+     * エラーの{@code ValidateMessage}を作成する。
+     *
+     * @param i エラーの位置(0～{@link #size()}-1)
+     * @return {@code ValidateMessage}
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public ValidateMessage<T> getMessage(final int i) throws IndexOutOfBoundsException {
+        return new ValidateMessage<T>(getConstraintViolation(i));
+    }
+
+    /**
+     * 要素の{@code ValidateMessage}のリストを作成する。
+     *
+     * @param index 要素の位置
+     * @return {@code ValidateMessage}のリスト(エラーがない場合は変更不可の空のリスト)
+     */
+    public List<ValidateMessage<T>> getMessages(final int index) {
+        int from = Arrays.binarySearch(indexes, 0, size, index);
+        if (from < 0) {
+            return Collections.emptyList();
+        }
+        while (from > 0 && indexes[from - 1] == index) {
+            from--;
+        }
+        final List<ValidateMessage<T>> messages = new ArrayList<ValidateMessage<T>>();
+        for (int i = from; i < size && indexes[i] == index; i++) {
+            messages.add(getMessage(i));
+        }
+        return messages;
+    }
+
+    /**
+     * エラーのあった要素の位置を昇順で取得する。
+     *
+     * @return エラーのあった要素の位置
+     */
+    public int[] getFailedIndexes() {
+        final int[] failed = new int[failedCount];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                failed[n++] = indexes[i];
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * エラーの位置をチェックする。
+     *
+     * @param i エラーの位置
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    private void checkIndex(final int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index: " + i + ", size: " + size);
+        }
+    }
+
+}
@@ -16,25 +16,50 @@
  */
 package com.github.nakamurakj.validator;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import javax.validation.Configuration;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
 import javax.validation.Validation;
+import javax.validation.ValidationException;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.validator.HibernateValidatorFactory;
+
+import com.github.nakamurakj.validator.metrics.InstrumentedConstraintValidatorFactory;
+import com.github.nakamurakj.validator.metrics.Instrumentation;
+import com.github.nakamurakj.validator.metrics.ValidationListener;
 
 /**
  * BeanValidator(@Validを利用しない場合のHandler)
  */
 public final class BeanValidator {
 
-    /** {@code javax.validation.ValidatorFactory} */
-    private static final ValidatorFactory FACTORY = Validation.buildDefaultValidatorFactory();
+    /** 並列に検証する場合の1タスクあたりの要素数 */
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /** 利用中の{@code ValidatorFactory}と{@code Validator} */
+    private static volatile Engine engine = new Engine(buildDefaultValidatorFactory());
 
     /**
      * コンストラクタ
@@ -43,43 +68,581 @@ public final class BeanValidator {
         // ignore
     }
 
+    /**
+     * デフォルトの{@code ValidatorFactory}を作成する。
+     *
+     * <p>
+     * {@code ConstraintValidator}の処理時間を{@link Instrumentation}のリスナーに通知するため、
+     * {@link InstrumentedConstraintValidatorFactory}を設定する。
+     * </p>
+     *
+     * @return {@code javax.validation.ValidatorFactory}
+     */
+    private static ValidatorFactory buildDefaultValidatorFactory() {
+        final Configuration<?> config = Validation.byDefaultProvider().configure();
+        config.constraintValidatorFactory(new InstrumentedConstraintValidatorFactory(
+                config.getDefaultConstraintValidatorFactory()));
+        return config.buildValidatorFactory();
+    }
+
     /**
      * {@code javax.validation.Validator}を取得する。
      *
+     * <p>
+     * {@code Validator}はスレッドセーフなため、{@code ValidatorFactory}ごとに1つを共有する。
+     * </p>
+     *
      * @return {@code javax.validation.Validator}
      */
     public static Validator getValidator() {
-        return FACTORY.getValidator();
+        return engine.validator;
+    }
+
+    /**
+     * {@code javax.validation.ValidatorFactory}を取得する。
+     *
+     * @return {@code javax.validation.ValidatorFactory}
+     */
+    public static ValidatorFactory getValidatorFactory() {
+        return engine.factory;
+    }
+
+    /**
+     * 利用する{@code javax.validation.ValidatorFactory}を設定する。
+     *
+     * <p>
+     * fail fastや{@code MessageInterpolator}などを設定済みの{@code ValidatorFactory}を利用する場合に指定する。
+     * {@code HibernateValidatorConfiguration#failFast(boolean)}を設定した{@code ValidatorFactory}を指定すると、
+     * すべての検証が最初のエラーで打ち切られる。
+     * 以前の{@code ValidatorFactory}のクローズは呼び出し元で行うこと。
+     * </p>
+     *
+     * @param factory {@code javax.validation.ValidatorFactory}
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public static void setValidatorFactory(final ValidatorFactory factory)
+            throws IllegalArgumentException {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory is null");
+        }
+        engine = new Engine(factory);
+    }
+
+    /**
+     * Beanのクラスのメタデータの作成と{@code ConstraintValidator}の初期化を事前に行う。
+     *
+     * <p>
+     * 初回のValidationで発生するメタデータの解析、{@code ConstraintValidator#initialize}
+     * (日付書式などのキャッシュの作成を含む)を起動時に済ませるために利用する。
+     * クラスとプロパティに設定されたConstraint(合成されたConstraintを含む)の{@code ConstraintValidator}を作成して初期化し、
+     * さらに各プロパティに<code>null</code>を検証させる。
+     * 初期化や<code>null</code>の検証で例外が発生した{@code ConstraintValidator}は読み飛ばし、初回のValidationで初期化する。
+     * </p>
+     *
+     * @param beanClasses Beanのクラス
+     * @return クラスごとの処理時間(ナノ秒、指定した順)
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public static Map<Class<?>, Long> preload(final Class<?>... beanClasses)
+            throws IllegalArgumentException {
+        if (beanClasses == null) {
+            throw new IllegalArgumentException("beanClasses is null");
+        }
+        final Engine current = engine;
+        final Map<Class<?>, Long> times = new LinkedHashMap<Class<?>, Long>();
+        for (final Class<?> beanClass : beanClasses) {
+            if (beanClass == null) {
+                throw new IllegalArgumentException("beanClass is null");
+            }
+            final long start = System.nanoTime();
+            preload(current, beanClass);
+            times.put(beanClass, System.nanoTime() - start);
+        }
+        return times;
+    }
+
+    /**
+     * パッケージ(サブパッケージを含む)配下のクラスのうち、Constraintが設定されているものを事前に読み込む。
+     *
+     * <p>
+     * クラスはスレッドのコンテキストクラスローダーから検索する。
+     * </p>
+     *
+     * @param packageName パッケージ名
+     * @return Constraintが設定されているクラスごとの処理時間(ナノ秒、クラス名の順)
+     * @throws IllegalArgumentException 引数エラー
+     * @throws IOException クラスパスの読み込みに失敗した場合
+     * @see #preload(Class...)
+     */
+    public static Map<Class<?>, Long> preload(final String packageName)
+            throws IllegalArgumentException, IOException {
+        if (packageName == null) {
+            throw new IllegalArgumentException("packageName is null");
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = BeanValidator.class.getClassLoader();
+        }
+        final Engine current = engine;
+        final Map<Class<?>, Long> times = new LinkedHashMap<Class<?>, Long>();
+        for (final Class<?> beanClass : ClassScanner.scan(packageName, classLoader)) {
+            final long start = System.nanoTime();
+            if (preload(current, beanClass)) {
+                times.put(beanClass, System.nanoTime() - start);
+            }
+        }
+        return times;
+    }
+
+    /**
+     * Beanのクラスのメタデータを作成し、{@code ConstraintValidator}を初期化する。
+     *
+     * @param current 利用する{@code ValidatorFactory}
+     * @param beanClass Beanのクラス
+     * @return Constraintが設定されている場合<code>true</code>
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean preload(final Engine current, final Class<?> beanClass) {
+        final Validator validator = current.validator;
+        final ConstraintValidatorFactory validatorFactory =
+                current.factory.getConstraintValidatorFactory();
+        final BeanDescriptor descriptor = validator.getConstraintsForClass(beanClass);
+        if (!descriptor.isBeanConstrained()) {
+            return false;
+        }
+        for (final ConstraintDescriptor<?> constraint : descriptor.getConstraintDescriptors()) {
+            initialize(validatorFactory, constraint);
+        }
+        for (final PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+            for (final ConstraintDescriptor<?> constraint : property.getConstraintDescriptors()) {
+                initialize(validatorFactory, constraint);
+            }
+            try {
+                validator.validateValue((Class<Object>) beanClass, property.getPropertyName(), null);
+            } catch (final RuntimeException e) {
+                // nullを検証できないConstraintValidatorは初回のValidationで初期化する
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Constraint(合成されたConstraintを含む)の{@code ConstraintValidator}を作成して初期化する。
+     *
+     * @param validatorFactory {@code ConstraintValidatorFactory}
+     * @param constraint Constraint
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void initialize(final ConstraintValidatorFactory validatorFactory,
+            final ConstraintDescriptor<?> constraint) {
+        for (final Class<?> validatorClass : constraint.getConstraintValidatorClasses()) {
+            try {
+                final ConstraintValidator validator =
+                        validatorFactory.getInstance((Class<ConstraintValidator>) validatorClass);
+                try {
+                    validator.initialize(constraint.getAnnotation());
+                } finally {
+                    validatorFactory.releaseInstance(validator);
+                }
+            } catch (final RuntimeException e) {
+                // 初期化できないConstraintValidatorは初回のValidationで初期化する
+            }
+        }
+        for (final ConstraintDescriptor<?> composing : constraint.getComposingConstraints()) {
+            initialize(validatorFactory, composing);
+        }
     }
 
     /**
      * javax.validationが設定されているBeanのValidationを行う。
      *
+     * <p>
+     * {@link Instrumentation}にリスナーが設定されている場合は、処理時間とエラー件数を通知する。
+     * </p>
+     *
      * @param bean 対象のBean
-     * @return {@code ValidateMessage}のリスト
+     * @return {@code ValidateMessage}のリスト(エラーがない場合は変更不可の空のリスト)
      * @throws IllegalArgumentException 引数エラー
      */
     public static <T> List<ValidateMessage<T>> validateBean(final T bean)
             throws IllegalArgumentException {
+        return validateBean(bean, false);
+    }
+
+    /**
+     * javax.validationが設定されているBeanのValidationを行う。
+     *
+     * <p>
+     * fail fastを指定した場合は最初のエラーで検証を打ち切り、エラーは最大1件となる。
+     * {@code ValidatorFactory}がHibernate Validatorでない場合は、すべてのConstraintを検証して最初のエラーのみを返す。
+     * </p>
+     *
+     * @param bean 対象のBean
+     * @param failFast 最初のエラーで検証を打ち切る場合<code>true</code>
+     * @return {@code ValidateMessage}のリスト(エラーがない場合は変更不可の空のリスト)
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public static <T> List<ValidateMessage<T>> validateBean(final T bean, final boolean failFast)
+            throws IllegalArgumentException {
         if (bean == null) {
             throw new IllegalArgumentException("bean is null");
         }
 
-        final Set<ConstraintViolation<T>> constraintViolations = getValidator().validate(bean);
+        final Engine current = engine;
+        final Validator validator = failFast ? current.failFastValidator : current.validator;
+        final ValidationListener listener = Instrumentation.getListener();
+        final Set<ConstraintViolation<T>> constraintViolations;
+        if (listener == null) {
+            constraintViolations = validator.validate(bean);
+        } else {
+            final long start = System.nanoTime();
+            constraintViolations = validator.validate(bean);
+            listener.beanValidated(bean.getClass(), constraintViolations.size(),
+                    System.nanoTime() - start);
+        }
         final int size = constraintViolations.size();
-        final List<ValidateMessage<T>> messages = new ArrayList<ValidateMessage<T>>(size);
-        if (size > 0) {
-            final Iterator<ConstraintViolation<T>> ite = constraintViolations.iterator();
-            while (ite.hasNext()) {
-                messages.add(new ValidateMessage<T>(ite.next()));
-            }
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        // fail fastでもエラーがある場合は通常の検証と同じく変更可能なリストを返す
+        final int count = failFast ? 1 : size;
+        final List<ValidateMessage<T>> messages = new ArrayList<ValidateMessage<T>>(count);
+        final Iterator<ConstraintViolation<T>> ite = constraintViolations.iterator();
+        while (ite.hasNext() && messages.size() < count) {
+            messages.add(new ValidateMessage<T>(ite.next()));
         }
         return messages;
     }
 
+    /**
+     * javax.validationが設定されているBeanにエラーがないかを判定する。
+     *
+     * <p>
+     * 最初のエラーで検証を打ち切り、エラーメッセージの作成(メッセージの補間)を行わない。
+     * エラーの内容が必要な場合は{@link #validateBean(Object, boolean)}を利用すること。
+     * </p>
+     *
+     * @param bean 対象のBean
+     * @return エラーがない場合<code>true</code>
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public static <T> boolean isValid(final T bean) throws IllegalArgumentException {
+        if (bean == null) {
+            throw new IllegalArgumentException("bean is null");
+        }
+
+        final Validator validator = engine.checkValidator;
+        final ValidationListener listener = Instrumentation.getListener();
+        if (listener == null) {
+            return validator.validate(bean).isEmpty();
+        }
+        final long start = System.nanoTime();
+        final int violations = validator.validate(bean).size();
+        listener.beanValidated(bean.getClass(), violations, System.nanoTime() - start);
+        return violations == 0;
+    }
+
+    /**
+     * 複数のBeanのValidationを行う。
+     *
+     * @param beans 対象のBean
+     * @return 要素の位置ごとのValidation結果
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public static <T> BatchValidationResult<T> validateAll(final Iterable<? extends T> beans)
+            throws IllegalArgumentException {
+        return validateAll(beans, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 複数のBeanのValidationを行う。エラーのあった要素数が上限に達した時点で検証を打ち切る。
+     *
+     * @param beans 対象のBean
+     * @param maxFailures エラーのあった要素数の上限
+     * @return 要素の位置ごとのValidation結果
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public static <T> BatchValidationResult<T> validateAll(final Iterable<? extends T> beans,
+            final int maxFailures) throws IllegalArgumentException {
+        if (beans == null) {
+            throw new IllegalArgumentException("beans is null");
+        }
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be positive");
+        }
+        final Validator validator = getValidator();
+        final BatchValidationResult<T> result = new BatchValidationResult<T>();
+        int index = 0;
+        for (final T bean : beans) {
+            if (result.getFailedCount() >= maxFailures) {
+                result.stop();
+                break;
+            }
+            if (bean == null) {
+                throw new IllegalArgumentException("bean is null: index=" + index);
+            }
+            result.add(index++, validator.validate(bean));
+        }
+        return result;
+    }
+
+    /**
+     * {@code Iterator}から取り出したBeanのValidationを順に行い、エラーを{@code ViolationHandler}に通知する。
+     *
+     * <p>
+     * 検証結果は保持しないため、件数の多いファイルなどを1件ずつ読み込みながら検証できる。
+     * {@code ViolationHandler}が<code>false</code>を返した場合は、その要素の残りのエラーも通知せずに検証を打ち切る。
+     * </p>
+     *
+     * @param beans 対象のBean
+     * @param handler エラーの通知先
+     * @return エラーのあった要素数
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public static <T> long validateEach(final Iterator<? extends T> beans,
+            final ViolationHandler<T> handler) throws IllegalArgumentException {
+        if (beans == null) {
+            throw new IllegalArgumentException("beans is null");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("handler is null");
+        }
+        final Validator validator = getValidator();
+        long index = 0;
+        long failedCount = 0;
+        while (beans.hasNext()) {
+            final T bean = beans.next();
+            if (bean == null) {
+                throw new IllegalArgumentException("bean is null: index=" + index);
+            }
+            final Set<ConstraintViolation<T>> constraintViolations = validator.validate(bean);
+            if (!constraintViolations.isEmpty()) {
+                failedCount++;
+                boolean next = true;
+                for (final ConstraintViolation<T> violation : constraintViolations) {
+                    if (!handler.handle(index, new ValidateMessage<T>(violation))) {
+                        next = false;
+                        break;
+                    }
+                }
+                if (!next) {
+                    break;
+                }
+            }
+            index++;
+        }
+        return failedCount;
+    }
+
+    /**
+     * {@code Iterable}から取り出したBeanのValidationを順に行い、エラーを{@code ViolationHandler}に通知する。
+     *
+     * @param beans 対象のBean
+     * @param handler エラーの通知先
+     * @return エラーのあった要素数
+     * @throws IllegalArgumentException 引数エラー
+     * @see #validateEach(Iterator, ViolationHandler)
+     */
+    public static <T> long validateEach(final Iterable<? extends T> beans,
+            final ViolationHandler<T> handler) throws IllegalArgumentException {
+        if (beans == null) {
+            throw new IllegalArgumentException("beans is null");
+        }
+        return validateEach(beans.iterator(), handler);
+    }
+
+    /**
+     * 複数のBeanのValidationを並列に行う。
+     *
+     * @param beans 対象のBean
+     * @param executor 検証を実行する{@code ExecutorService}({@code ForkJoinPool}など)
+     * @return 要素の位置ごとのValidation結果
+     * @throws IllegalArgumentException 引数エラー
+     * @throws InterruptedException 待機中に割り込まれた場合
+     * @see #validateAll(List, ExecutorService, int)
+     */
+    public static <T> BatchValidationResult<T> validateAll(final List<? extends T> beans,
+            final ExecutorService executor) throws IllegalArgumentException, InterruptedException {
+        return validateAll(beans, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 複数のBeanのValidationを並列に行う。
+     *
+     * <p>
+     * リストを指定件数ごとに分割して{@code ExecutorService}で検証し、要素の順序を保って結果を連結する。
+     * {@code Validator}はスレッドセーフなため、すべてのタスクで共有する。
+     * いずれかのタスクで例外が発生した場合は残りのタスクを取り消して、その例外をスローする。
+     * </p>
+     *
+     * @param beans 対象のBean(ランダムアクセス可能なリスト)
+     * @param executor 検証を実行する{@code ExecutorService}({@code ForkJoinPool}など)
+     * @param chunkSize 1タスクで検証する要素数
+     * @return 要素の位置ごとのValidation結果
+     * @throws IllegalArgumentException 引数エラー
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    public static <T> BatchValidationResult<T> validateAll(final List<? extends T> beans,
+            final ExecutorService executor, final int chunkSize)
+            throws IllegalArgumentException, InterruptedException {
+        if (beans == null) {
+            throw new IllegalArgumentException("beans is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor is null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        final Validator validator = getValidator();
+        final int size = beans.size();
+        final List<Future<BatchValidationResult<T>>> futures =
+                new ArrayList<Future<BatchValidationResult<T>>>(size / chunkSize + 1);
+        try {
+            for (int from = 0; from < size; from += chunkSize) {
+                final int offset = from;
+                final List<? extends T> chunk = beans.subList(from, Math.min(size, from + chunkSize));
+                futures.add(executor.submit(new Callable<BatchValidationResult<T>>() {
+                    @Override
+                    public BatchValidationResult<T> call() {
+                        final BatchValidationResult<T> result = new BatchValidationResult<T>();
+                        int index = offset;
+                        for (final T bean : chunk) {
+                            if (bean == null) {
+                                throw new IllegalArgumentException("bean is null: index=" + index);
+                            }
+                            result.add(index++, validator.validate(bean));
+                        }
+                        return result;
+                    }
+                }));
+            }
+            final BatchValidationResult<T> result = new BatchValidationResult<T>();
+            for (final Future<BatchValidationResult<T>> future : futures) {
+                result.append(future.get());
+            }
+            return result;
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ValidationException(cause);
+        } finally {
+            for (final Future<BatchValidationResult<T>> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * {@link BeanValidator#validateEach(Iterator, ViolationHandler)}のエラーの通知先
+     *
+     * @param <T> 検証を行うクラス
+     */
+    public interface ViolationHandler<T> {
+
+        /**
+         * エラーを処理する。
+         *
+         * @param index 要素の位置(0始まり)
+         * @param message {@code ValidateMessage}
+         * @return 検証を続ける場合<code>true</code>
+         */
+        boolean handle(long index, ValidateMessage<T> message);
+    }
+
+    /**
+     * {@code ValidatorFactory}と、そこから取得した{@code Validator}を保持するクラス。
+     */
+    private static final class Engine {
+
+        /** {@code javax.validation.ValidatorFactory} */
+        private final ValidatorFactory factory;
+
+        /** {@code javax.validation.Validator} */
+        private final Validator validator;
+
+        /** 最初のエラーで検証を打ち切る{@code javax.validation.Validator} */
+        private final Validator failFastValidator;
+
+        /** 最初のエラーで検証を打ち切り、メッセージの補間を行わない{@code javax.validation.Validator} */
+        private final Validator checkValidator;
+
+        /**
+         * コンストラクタ
+         *
+         * @param factory {@code javax.validation.ValidatorFactory}
+         */
+        private Engine(final ValidatorFactory factory) {
+            this.factory = factory;
+            this.validator = factory.getValidator();
+            final HibernateValidatorFactory hibernate = unwrap(factory);
+            if (hibernate == null) {
+                this.failFastValidator = validator;
+                this.checkValidator = validator;
+            } else {
+                this.failFastValidator = hibernate.usingContext().failFast(true).getValidator();
+                this.checkValidator = hibernate.usingContext().failFast(true)
+                        .messageInterpolator(TemplateMessageInterpolator.INSTANCE).getValidator();
+            }
+        }
+
+        /**
+         * {@code HibernateValidatorFactory}を取得する。
+         *
+         * @param factory {@code javax.validation.ValidatorFactory}
+         * @return {@code HibernateValidatorFactory}(Hibernate Validatorでない場合は<code>null</code>)
+         */
+        private static HibernateValidatorFactory unwrap(final ValidatorFactory factory) {
+            try {
+                return factory.unwrap(HibernateValidatorFactory.class);
+            } catch (final ValidationException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * メッセージテンプレートをそのまま返す{@code MessageInterpolator}。
+     *
+     * <p>
+     * {@link BeanValidator#isValid(Object)}でメッセージの補間を省略するために利用する。
+     * </p>
+     */
+    private static final class TemplateMessageInterpolator implements MessageInterpolator {
+
+        /** インスタンス */
+        private static final TemplateMessageInterpolator INSTANCE = new TemplateMessageInterpolator();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String interpolate(final String messageTemplate, final Context context) {
+            return messageTemplate;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String interpolate(final String messageTemplate, final Context context,
+                final Locale locale) {
+            return messageTemplate;
+        }
+    }
+
     /**
      * バリデーションエラーのエラーメッセージを保持するクラス。
      *
+     * <p>
+     * クラス名、プロパティ名、エラーメッセージは初回の取得時に作成して保持する。
+     * </p>
+     *
      * @param <T> 検証を行うクラス
      */
     public static final class ValidateMessage<T> {
@@ -92,26 +655,23 @@ public final class BeanValidator {
         /** バリデーションエラーのBean */
         private final T rootBean;
 
-        /** バリデーションエラーのBeanのクラス名 */
-        private final String rootBeanName;
+        /** バリデーションエラーのBeanのクラス名(未作成の場合は<code>null</code>) */
+        private String rootBeanName;
 
-        /** エラーのプロパティ名 */
-        private final String targetProperty;
+        /** エラーのプロパティ名(未作成の場合は<code>null</code>) */
+        private String targetProperty;
 
-        /** エラーメッセージ */
-        private final String message;
+        /** エラーメッセージ(未作成の場合は<code>null</code>) */
+        private String message;
 
         /**
          * コンストラクタ
          *
          * @param vio {@code ConstraintViolation}
          */
-        private ValidateMessage(final ConstraintViolation<T> vio) {
+        ValidateMessage(final ConstraintViolation<T> vio) {
             constraintViolation = vio;
             rootBean = vio.getRootBean();
-            rootBeanName = vio.getRootBeanClass().getSimpleName();
-            targetProperty = vio.getPropertyPath().toString();
-            message = vio.getMessage();
         }
 
         /**
@@ -138,7 +698,12 @@ public final class BeanValidator {
          * @return rootBeanName バリデーションエラーのBeanのクラス名
          */
         public String getRootBeanName() {
-            return rootBeanName;
+            String name = rootBeanName;
+            if (name == null) {
+                name = constraintViolation.getRootBeanClass().getSimpleName();
+                rootBeanName = name;
+            }
+            return name;
         }
 
         /**
@@ -147,7 +712,12 @@ public final class BeanValidator {
          * @return targetProperty エラーのプロパティ名
          */
         public String getTargetProperty() {
-            return targetProperty;
+            String property = targetProperty;
+            if (property == null) {
+                property = constraintViolation.getPropertyPath().toString();
+                targetProperty = property;
+            }
+            return property;
         }
 
         /**
@@ -156,7 +726,12 @@ public final class BeanValidator {
          * @return message エラーメッセージ
          */
         public String getMessage() {
-            return message;
+            String text = message;
+            if (text == null) {
+                text = constraintViolation.getMessage();
+                message = text;
+            }
+            return text;
         }
 
         /**
@@ -165,7 +740,7 @@ public final class BeanValidator {
          * @return エラー
          */
         public String getError() {
-            return "Invalid" + StringUtils.capitalize(targetProperty);
+            return "Invalid" + StringUtils.capitalize(getTargetProperty());
         }
 
         /**
@@ -174,7 +749,7 @@ public final class BeanValidator {
          * @return エラーメッセージ
          */
         public String createErrorMessage() {
-            return rootBeanName + "#" + targetProperty + "[" + message + "]";
+            return getRootBeanName() + "#" + getTargetProperty() + "[" + getMessage() + "]";
         }
     }
 
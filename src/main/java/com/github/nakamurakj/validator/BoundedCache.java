@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 上限付きのスレッドセーフなキャッシュ
+ *
+ * <p>
+ * 上限を超えた場合は登録順(FIFO)に古いエントリから破棄する。
+ * 同一キーの値が同時に作成された場合は先に登録された値を返す。
+ * </p>
+ *
+ * @param <K> キー
+ * @param <V> 値
+ */
+public abstract class BoundedCache<K, V> {
+
+    /** 最大件数 */
+    private final int maximumSize;
+
+    /** キャッシュ本体 */
+    private final ConcurrentHashMap<K, V> map;
+
+    /** 破棄順序 */
+    private final ConcurrentLinkedQueue<K> order = new ConcurrentLinkedQueue<K>();
+
+    /** 現在の件数 */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /** ヒット数 */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /** ミス数 */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /** 破棄数 */
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * コンストラクタ
+     *
+     * @param maximumSize 最大件数
+     * @throws IllegalArgumentException 最大件数が1未満の場合
+     */
+    protected BoundedCache(final int maximumSize) throws IllegalArgumentException {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.map = new ConcurrentHashMap<K, V>(Math.min(maximumSize, 1024));
+    }
+
+    /**
+     * キーに対応する値を作成する。
+     *
+     * @param key キー
+     * @return 値(<code>null</code>不可)
+     */
+    protected abstract V load(K key);
+
+    /**
+     * キーに対応する値を取得する。キャッシュに存在しない場合は作成して登録する。
+     *
+     * @param key キー
+     * @return 値
+     * @throws IllegalArgumentException キーが<code>null</code>の場合
+     */
+    public V get(final K key) throws IllegalArgumentException {
+        if (key == null) {
+            throw new IllegalArgumentException("key is null");
+        }
+        final V value = map.get(key);
+        if (value != null) {
+            hitCount.incrementAndGet();
+            return value;
+        }
+        missCount.incrementAndGet();
+        final V created = load(key);
+        final V previous = map.putIfAbsent(key, created);
+        if (previous != null) {
+            return previous;
+        }
+        order.offer(key);
+        if (size.incrementAndGet() > maximumSize) {
+            evict();
+        }
+        return created;
+    }
+
+    /**
+     * 最大件数を超えた分を古い順に破棄する。
+     */
+    private void evict() {
+        while (size.get() > maximumSize) {
+            final K eldest = order.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (map.remove(eldest) != null) {
+                size.decrementAndGet();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * キャッシュを空にする。統計値はリセットしない。
+     */
+    public void clear() {
+        K key;
+        while ((key = order.poll()) != null) {
+            if (map.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 最大件数を取得する。
+     *
+     * @return 最大件数
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 現在の件数を取得する。
+     *
+     * @return 現在の件数
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * ヒット数を取得する。
+     *
+     * @return ヒット数
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * ミス数を取得する。
+     *
+     * @return ミス数
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 破棄数を取得する。
+     *
+     * @return 破棄数
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+}
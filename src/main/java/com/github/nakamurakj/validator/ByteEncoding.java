@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.nio.ByteBuffer;
+
+/**
+ * バイト列のままチェックを行う文字エンコーディング
+ *
+ * <p>
+ * {@link Validators}のバイト列版のチェックで利用する。
+ * バイト列を文字列にデコードせず、先頭バイトの範囲から1文字ずつ文字を判定する。
+ * </p>
+ */
+public enum ByteEncoding {
+
+    /**
+     * UTF-8
+     *
+     * <p>
+     * 冗長な表現、サロゲートの範囲、U+10FFFFを超える値は不正なバイト列とする。
+     * </p>
+     */
+    UTF_8 {
+        @Override
+        int decode(final ByteBuffer buffer, final int index, final int end) {
+            final int b0 = buffer.get(index) & 0xFF;
+            if (b0 < 0x80) {
+                return encode(b0, 1);
+            }
+            final int length;
+            final int min;
+            final int max;
+            if (b0 >= 0xC2 && b0 <= 0xDF) {
+                return index + 1 < end && isContinuation(buffer.get(index + 1))
+                        ? encode(((b0 & 0x1F) << 6) | (buffer.get(index + 1) & 0x3F), 2)
+                        : INVALID;
+            } else if (b0 >= 0xE0 && b0 <= 0xEF) {
+                length = 3;
+                min = b0 == 0xE0 ? 0xA0 : 0x80;
+                max = b0 == 0xED ? 0x9F : 0xBF;
+            } else if (b0 >= 0xF0 && b0 <= 0xF4) {
+                length = 4;
+                min = b0 == 0xF0 ? 0x90 : 0x80;
+                max = b0 == 0xF4 ? 0x8F : 0xBF;
+            } else {
+                return INVALID;
+            }
+            if (index + length > end) {
+                return INVALID;
+            }
+            final int b1 = buffer.get(index + 1) & 0xFF;
+            if (b1 < min || b1 > max) {
+                return INVALID;
+            }
+            int codePoint = ((b0 & (0xFF >> (length + 1))) << 6) | (b1 & 0x3F);
+            for (int i = 2; i < length; i++) {
+                final byte b = buffer.get(index + i);
+                if (!isContinuation(b)) {
+                    return INVALID;
+                }
+                codePoint = (codePoint << 6) | (b & 0x3F);
+            }
+            return encode(codePoint, length);
+        }
+    },
+
+    /**
+     * Shift_JIS(Windows-31Jを含む)
+     *
+     * <p>
+     * 半角カナ(0xA1～0xDF)と、全角のひらがな、カタカナ、記号(第1バイト0x81～0x83)を変換する。
+     * それ以外の2バイト文字はチェック対象外の文字(U+FFFD)として扱う。
+     * </p>
+     */
+    SHIFT_JIS {
+        @Override
+        int decode(final ByteBuffer buffer, final int index, final int end) {
+            final int b0 = buffer.get(index) & 0xFF;
+            if (b0 < 0x80) {
+                return encode(b0, 1);
+            }
+            if (b0 >= 0xA1 && b0 <= 0xDF) {
+                return encode(HALF_KATAKANA_OFFSET + b0, 1);
+            }
+            if (!(b0 >= 0x81 && b0 <= 0x9F || b0 >= 0xE0 && b0 <= 0xFC) || index + 1 >= end) {
+                return INVALID;
+            }
+            final int b1 = buffer.get(index + 1) & 0xFF;
+            if (b1 < 0x40 || b1 == 0x7F || b1 > 0xFC) {
+                return INVALID;
+            }
+            if (b0 <= SJIS_LAST_LEAD) {
+                final char c = SJIS_TABLE[((b0 - SJIS_FIRST_LEAD) << 8) | b1];
+                if (c != 0) {
+                    return encode(c, 2);
+                }
+            }
+            return encode(UNMAPPED, 2);
+        }
+    };
+
+    /** 不正なバイト列 */
+    static final int INVALID = -1;
+
+    /** 文字の長さのシフト数(コードポイントは21ビット) */
+    private static final int LENGTH_SHIFT = 21;
+
+    /** コードポイントのマスク */
+    private static final int CODE_POINT_MASK = (1 << LENGTH_SHIFT) - 1;
+
+    /** チェック対象外の文字 */
+    private static final char UNMAPPED = '\uFFFD';
+
+    /** Shift_JISの半角カナ(0xA1→U+FF61)の差分 */
+    private static final int HALF_KATAKANA_OFFSET = 0xFF61 - 0xA1;
+
+    /** 変換表の第1バイト(開始) */
+    private static final int SJIS_FIRST_LEAD = 0x81;
+
+    /** 変換表の第1バイト(終了) */
+    private static final int SJIS_LAST_LEAD = 0x83;
+
+    /** Shift_JISの変換表(第1バイト0x81～0x83、変換しない文字は0) */
+    private static final char[] SJIS_TABLE = createSjisTable();
+
+    /**
+     * 先頭の1文字を変換する。
+     *
+     * @param buffer バイト列
+     * @param index 文字の開始位置
+     * @param end 範囲の終了位置(この位置を含まない)
+     * @return コードポイントと文字のバイト数({@link #codePoint(int)}、{@link #length(int)}で取り出す)、
+     *         不正なバイト列の場合は{@link #INVALID}
+     */
+    abstract int decode(ByteBuffer buffer, int index, int end);
+
+    /**
+     * {@link #decode(ByteBuffer, int, int)}の結果からコードポイントを取り出す。
+     *
+     * @param decoded 変換結果
+     * @return コードポイント
+     */
+    static int codePoint(final int decoded) {
+        return decoded & CODE_POINT_MASK;
+    }
+
+    /**
+     * {@link #decode(ByteBuffer, int, int)}の結果から文字のバイト数を取り出す。
+     *
+     * @param decoded 変換結果
+     * @return 文字のバイト数
+     */
+    static int length(final int decoded) {
+        return decoded >>> LENGTH_SHIFT;
+    }
+
+    /**
+     * コードポイントと文字のバイト数をまとめる。
+     *
+     * @param codePoint コードポイント
+     * @param length 文字のバイト数
+     * @return 変換結果
+     */
+    private static int encode(final int codePoint, final int length) {
+        return (length << LENGTH_SHIFT) | codePoint;
+    }
+
+    /**
+     * UTF-8の2バイト目以降(0x80～0xBF)かを判定する。
+     *
+     * @param b バイト
+     * @return 2バイト目以降の場合<code>true</code>
+     */
+    private static boolean isContinuation(final byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * Shift_JISの変換表を作成する。
+     *
+     * @return 変換表
+     */
+    private static char[] createSjisTable() {
+        final char[] table = new char[(SJIS_LAST_LEAD - SJIS_FIRST_LEAD + 1) << 8];
+        // 記号
+        final int[][] symbols = {
+            {0x8140, 0x3000}, {0x8145, 0x30FB}, {0x814A, 0x309B}, {0x814B, 0x309C},
+            {0x8152, 0x30FD}, {0x8153, 0x30FE}, {0x8154, 0x309D}, {0x8155, 0x309E},
+            {0x815B, 0x30FC},
+        };
+        for (final int[] symbol : symbols) {
+            table[symbol[0] - (SJIS_FIRST_LEAD << 8)] = (char) symbol[1];
+        }
+        // ひらがな(ぁ～ん)
+        fill(table, 0x829F, 0x82F1, 0x3041);
+        // カタカナ(ァ～ミ、ム～ヶ。0x837Fは欠番)
+        fill(table, 0x8340, 0x837E, 0x30A1);
+        fill(table, 0x8380, 0x8396, 0x30E0);
+        return table;
+    }
+
+    /**
+     * 変換表に連続した文字を設定する。
+     *
+     * @param table 変換表
+     * @param first Shift_JISの範囲(開始)
+     * @param last Shift_JISの範囲(終了)
+     * @param c 開始位置の文字
+     */
+    private static void fill(final char[] table, final int first, final int last, final int c) {
+        for (int code = first; code <= last; code++) {
+            table[code - (SJIS_FIRST_LEAD << 8)] = (char) (c + code - first);
+        }
+    }
+
+}
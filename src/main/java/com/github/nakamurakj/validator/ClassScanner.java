@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * クラスパスからパッケージ配下のクラスを検索するクラス
+ *
+ * <p>
+ * ディレクトリとjarファイルのクラスパスに対応する。
+ * </p>
+ */
+final class ClassScanner {
+
+    /** クラスファイルの拡張子 */
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * コンストラクタ
+     */
+    private ClassScanner() {
+        // ignore
+    }
+
+    /**
+     * パッケージ(サブパッケージを含む)配下のクラスを検索する。
+     *
+     * <p>
+     * クラスの初期化は行わない。読み込みに失敗したクラスは無視する。
+     * </p>
+     *
+     * @param packageName パッケージ名
+     * @param classLoader クラスローダー
+     * @return クラスのリスト(クラス名の順)
+     * @throws IOException クラスパスの読み込みに失敗した場合
+     */
+    static List<Class<?>> scan(final String packageName, final ClassLoader classLoader)
+            throws IOException {
+        final String path = packageName.replace('.', '/');
+        final List<String> names = new ArrayList<String>();
+        final Enumeration<URL> resources = classLoader.getResources(path);
+        while (resources.hasMoreElements()) {
+            final URL url = resources.nextElement();
+            if ("file".equals(url.getProtocol())) {
+                scanDirectory(toFile(url), packageName, names);
+            } else if ("jar".equals(url.getProtocol())) {
+                final JarURLConnection connection = (JarURLConnection) url.openConnection();
+                connection.setUseCaches(false);
+                final JarFile jar = connection.getJarFile();
+                try {
+                    scanJar(jar, path + "/", names);
+                } finally {
+                    jar.close();
+                }
+            }
+        }
+        Collections.sort(names);
+
+        final List<Class<?>> classes = new ArrayList<Class<?>>(names.size());
+        for (final String name : names) {
+            try {
+                classes.add(Class.forName(name, false, classLoader));
+            } catch (final ClassNotFoundException e) {
+                continue;
+            } catch (final LinkageError e) {
+                continue;
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * ディレクトリ配下のクラス名を収集する。
+     *
+     * @param directory ディレクトリ
+     * @param packageName ディレクトリに対応するパッケージ名
+     * @param names クラス名の格納先
+     */
+    private static void scanDirectory(final File directory, final String packageName,
+            final List<String> names) {
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (final File file : files) {
+            final String name = file.getName();
+            if (file.isDirectory()) {
+                scanDirectory(file, packageName + "." + name, names);
+            } else if (isClassFile(name)) {
+                names.add(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()));
+            }
+        }
+    }
+
+    /**
+     * jarファイルのパス配下のクラス名を収集する。
+     *
+     * @param jar jarファイル
+     * @param prefix パッケージのパス(末尾は/)
+     * @param names クラス名の格納先
+     */
+    private static void scanJar(final JarFile jar, final String prefix, final List<String> names) {
+        final Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            final String name = entries.nextElement().getName();
+            if (name.startsWith(prefix) && isClassFile(name.substring(name.lastIndexOf('/') + 1))) {
+                names.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+            }
+        }
+    }
+
+    /**
+     * 検索対象のクラスファイルかを判定する。
+     *
+     * @param fileName ファイル名
+     * @return 対象の場合<code>true</code>
+     */
+    private static boolean isClassFile(final String fileName) {
+        return fileName.endsWith(CLASS_SUFFIX) && !fileName.equals("package-info.class")
+                && !fileName.equals("module-info.class");
+    }
+
+    /**
+     * URLをファイルに変換する。
+     *
+     * @param url fileプロトコルのURL
+     * @return ファイル
+     */
+    private static File toFile(final URL url) {
+        try {
+            return new File(url.toURI());
+        } catch (final URISyntaxException e) {
+            return new File(url.getPath());
+        }
+    }
+
+}
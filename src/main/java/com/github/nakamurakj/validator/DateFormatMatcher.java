@@ -0,0 +1,562 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * 日付フォーマットのチェックを行うクラス
+ *
+ * <p>
+ * 日付フォーマットごとに一度だけ作成し、スレッド間で共有できる。
+ * 判定結果は厳密モード(lenient=false)の{@link SimpleDateFormat}で
+ * 文字列全体を解析した場合と同じになる。
+ * </p>
+ * <p>
+ * "yyyyMMddHHmmss"のように数値項目だけで構成されるフォーマットは、
+ * 値がフォーマットどおりの桁数で入力されていれば日付オブジェクトを作成せずに判定する。
+ * それ以外の値は{@link SimpleDateFormat}で解析する。
+ * </p>
+ */
+public abstract class DateFormatMatcher {
+
+    /** キャッシュの最大件数 */
+    private static final int CACHE_SIZE = 128;
+
+    /** 日付フォーマットごとのインスタンスのキャッシュ */
+    private static final BoundedCache<String, DateFormatMatcher> CACHE =
+            new BoundedCache<String, DateFormatMatcher>(CACHE_SIZE) {
+                @Override
+                protected DateFormatMatcher load(String pattern) {
+                    return create(pattern);
+                }
+            };
+
+    /**
+     * コンストラクタ
+     */
+    DateFormatMatcher() {
+        // ignore
+    }
+
+    /**
+     * 日付フォーマットに対応するインスタンスを取得する。
+     *
+     * @param pattern 日付フォーマット
+     * @return {@code DateFormatMatcher}
+     * @throws IllegalArgumentException 日付フォーマットが不正な場合
+     */
+    public static DateFormatMatcher getInstance(final String pattern)
+            throws IllegalArgumentException {
+        if (pattern == null) {
+            throw new IllegalArgumentException("pattern is null");
+        }
+        return CACHE.get(pattern);
+    }
+
+    /**
+     * 日付フォーマットに対応するインスタンスを作成する。
+     *
+     * @param pattern 日付フォーマット
+     * @return {@code DateFormatMatcher}
+     */
+    private static DateFormatMatcher create(final String pattern) {
+        final ParserMatcher parser = new ParserMatcher(pattern);
+        final FixedWidthMatcher fixedWidth = FixedWidthMatcher.compile(pattern, parser);
+        return fixedWidth != null ? fixedWidth : parser;
+    }
+
+    /**
+     * 日付フォーマットを取得する。
+     *
+     * @return 日付フォーマット
+     */
+    public abstract String getPattern();
+
+    /**
+     * 日付フォーマットのチェックを行う。前後の空白は無視する。
+     *
+     * @param value 文字列
+     * @return 日付フォーマットの場合<code>true</code>
+     */
+    public abstract boolean matches(CharSequence value);
+
+    /**
+     * {@link SimpleDateFormat}で解析を行う実装
+     */
+    private static final class ParserMatcher extends DateFormatMatcher {
+
+        /** 日付フォーマット */
+        private final String pattern;
+
+        /** 複製元の{@code DateFormat} */
+        private final DateFormat prototype;
+
+        /** スレッドごとの{@code DateFormat} */
+        private final ThreadLocal<DateFormat> formats = new ThreadLocal<DateFormat>() {
+            @Override
+            protected DateFormat initialValue() {
+                return (DateFormat) prototype.clone();
+            }
+        };
+
+        /**
+         * コンストラクタ
+         *
+         * @param pattern 日付フォーマット(空文字の場合は{@link DateFormat#SHORT})
+         */
+        ParserMatcher(final String pattern) {
+            this.pattern = pattern;
+            final DateFormat format;
+            if (pattern.length() > 0) {
+                format = new SimpleDateFormat(pattern);
+            } else {
+                format = DateFormat.getDateInstance(DateFormat.SHORT);
+            }
+            format.setLenient(false);
+            this.prototype = format;
+        }
+
+        /**
+         * 解析に利用するタイムゾーンを取得する。
+         *
+         * @return タイムゾーン
+         */
+        TimeZone getTimeZone() {
+            return prototype.getTimeZone();
+        }
+
+        /**
+         * 2桁の年を解釈する際の開始年を取得する。
+         *
+         * @return 開始年
+         */
+        int getTwoDigitYearStart() {
+            final Calendar calendar = Calendar.getInstance(prototype.getTimeZone());
+            calendar.setTime(((SimpleDateFormat) prototype).get2DigitYearStart());
+            return calendar.get(Calendar.YEAR);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean matches(final CharSequence value) {
+            final String string = value.toString().trim();
+            if (string.length() == 0) {
+                return false;
+            }
+            final ParsePosition pos = new ParsePosition(0);
+            final Object parsed = formats.get().parseObject(string, pos);
+            return parsed != null && pos.getErrorIndex() < 0 && pos.getIndex() == string.length();
+        }
+    }
+
+    /**
+     * 数値項目だけで構成される固定長の日付フォーマットの実装
+     */
+    private static final class FixedWidthMatcher extends DateFormatMatcher {
+
+        /** 区切り文字を表す項目種別 */
+        private static final char LITERAL = '\0';
+
+        /** 1日のミリ秒 */
+        private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+        /** グレゴリオ暦が適用される最初の年 */
+        private static final int GREGORIAN_START_YEAR = 1583;
+
+        /** 0000年3月1日から1970年1月1日までの日数 */
+        private static final int DAYS_0000_TO_1970 = 719468;
+
+        /** 日付フォーマット */
+        private final String pattern;
+
+        /** 項目種別(フォーマット文字または{@link #LITERAL}) */
+        private final char[] kinds;
+
+        /** 項目の桁数 */
+        private final int[] widths;
+
+        /** 区切り文字 */
+        private final char[] literals;
+
+        /** 全体の桁数 */
+        private final int width;
+
+        /** 解析に利用するタイムゾーン */
+        private final TimeZone zone;
+
+        /** 2桁の年を解釈する際の開始年 */
+        private final int twoDigitYearStart;
+
+        /** 時または分の項目を含むか */
+        private final boolean time;
+
+        /** 固定長で判定できない場合の解析 */
+        private final ParserMatcher parser;
+
+        /**
+         * コンストラクタ
+         *
+         * @param pattern 日付フォーマット
+         * @param kinds 項目種別
+         * @param widths 項目の桁数
+         * @param literals 区切り文字
+         * @param parser 固定長で判定できない場合の解析
+         */
+        private FixedWidthMatcher(final String pattern, final char[] kinds, final int[] widths,
+                final char[] literals, final ParserMatcher parser) {
+            this.pattern = pattern;
+            this.kinds = kinds;
+            this.widths = widths;
+            this.literals = literals;
+            int total = 0;
+            for (final int w : widths) {
+                total += w;
+            }
+            this.width = total;
+            boolean hasTime = false;
+            for (final char kind : kinds) {
+                hasTime |= isHour(kind) || kind == 'm';
+            }
+            this.time = hasTime;
+            this.zone = parser.getTimeZone();
+            this.twoDigitYearStart = parser.getTwoDigitYearStart();
+            this.parser = parser;
+        }
+
+        /**
+         * 固定長で判定できる日付フォーマットを解析する。
+         *
+         * @param pattern 日付フォーマット
+         * @param parser 固定長で判定できない場合の解析
+         * @return 固定長で判定できない日付フォーマットの場合<code>null</code>
+         */
+        static FixedWidthMatcher compile(final String pattern, final ParserMatcher parser) {
+            final int length = pattern.length();
+            final char[] kinds = new char[length];
+            final int[] widths = new int[length];
+            final char[] literals = new char[length];
+            final StringBuilder used = new StringBuilder();
+            int count = 0;
+            boolean field = false;
+            for (int i = 0; i < length;) {
+                final char c = pattern.charAt(i);
+                int j = i + 1;
+                if (isAsciiLetter(c)) {
+                    while (j < length && pattern.charAt(j) == c) {
+                        j++;
+                    }
+                    final char kind = c;
+                    final char group = isHour(kind) ? 'H' : kind;
+                    if (!isFixedWidth(kind, j - i) || used.indexOf(String.valueOf(group)) >= 0) {
+                        return null;
+                    }
+                    used.append(group);
+                    kinds[count] = kind;
+                    widths[count] = j - i;
+                    field = true;
+                } else if (c == '\'') {
+                    return null;
+                } else {
+                    kinds[count] = LITERAL;
+                    widths[count] = 1;
+                    literals[count] = c;
+                }
+                count++;
+                i = j;
+            }
+            if (!field) {
+                return null;
+            }
+            final char[] k = new char[count];
+            final int[] w = new int[count];
+            final char[] l = new char[count];
+            System.arraycopy(kinds, 0, k, 0, count);
+            System.arraycopy(widths, 0, w, 0, count);
+            System.arraycopy(literals, 0, l, 0, count);
+            return new FixedWidthMatcher(pattern, k, w, l, parser);
+        }
+
+        /**
+         * 固定長で判定できる項目かをチェックする。
+         *
+         * @param kind フォーマット文字
+         * @param count 桁数
+         * @return 固定長で判定できる場合<code>true</code>
+         */
+        private static boolean isFixedWidth(final char kind, final int count) {
+            switch (kind) {
+            case 'y':
+                return count == 2 || count == 4;
+            case 'M':
+            case 'd':
+            case 'H':
+            case 'k':
+            case 'K':
+            case 'h':
+            case 'm':
+            case 's':
+                return count == 2;
+            case 'S':
+                return count <= 3;
+            default:
+                return false;
+            }
+        }
+
+        /**
+         * 時の項目かをチェックする。
+         *
+         * @param kind フォーマット文字
+         * @return 時の項目の場合<code>true</code>
+         */
+        private static boolean isHour(final char kind) {
+            return kind == 'H' || kind == 'k' || kind == 'K' || kind == 'h';
+        }
+
+        /**
+         * 英字かをチェックする。
+         *
+         * @param c 文字
+         * @return 英字の場合<code>true</code>
+         */
+        private static boolean isAsciiLetter(final char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean matches(final CharSequence value) {
+            int start = 0;
+            int end = value.length();
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (end - start != width) {
+                return matchesIrregular(value, start, end);
+            }
+            int year = 1970;
+            int month = 1;
+            int day = 1;
+            int hour = 0;
+            int minute = 0;
+            int second = 0;
+            int millis = 0;
+            // 範囲外の時も区切り文字の不一致はSimpleDateFormatに任せるため、判定は走査の後に行う
+            boolean hourInRange = true;
+            int pos = start;
+            for (int i = 0; i < kinds.length; i++) {
+                final char kind = kinds[i];
+                if (kind == LITERAL) {
+                    if (value.charAt(pos++) != literals[i]) {
+                        return matchesIrregular(value, start, end);
+                    }
+                    continue;
+                }
+                int v = 0;
+                for (int j = 0; j < widths[i]; j++) {
+                    final char c = value.charAt(pos++);
+                    if (c < '0' || c > '9') {
+                        return matchesIrregular(value, start, end);
+                    }
+                    v = v * 10 + (c - '0');
+                }
+                switch (kind) {
+                case 'y':
+                    if (widths[i] == 2) {
+                        // SimpleDateFormatと同じく開始年から100年の範囲で解釈する
+                        final int ambiguous = twoDigitYearStart % 100;
+                        if (v == ambiguous) {
+                            return parser.matches(value);
+                        }
+                        year = twoDigitYearStart / 100 * 100 + v + (v < ambiguous ? 100 : 0);
+                    } else {
+                        year = v;
+                    }
+                    break;
+                case 'M':
+                    month = v;
+                    break;
+                case 'd':
+                    day = v;
+                    break;
+                case 'H':
+                    hour = v;
+                    break;
+                case 'k':
+                    hour = v == 24 ? 0 : v;
+                    hourInRange = v >= 1 && v <= 24;
+                    break;
+                case 'K':
+                    hour = v;
+                    hourInRange = v <= 11;
+                    break;
+                case 'h':
+                    hour = v == 12 ? 0 : v;
+                    hourInRange = v >= 1 && v <= 12;
+                    break;
+                case 'm':
+                    minute = v;
+                    break;
+                case 's':
+                    second = v;
+                    break;
+                default:
+                    millis = v;
+                    break;
+                }
+            }
+            if (year < GREGORIAN_START_YEAR) {
+                // ユリウス暦の期間はSimpleDateFormatに任せる
+                return parser.matches(value);
+            }
+            if (!hourInRange || month < 1 || month > 12 || day < 1
+                    || day > daysOfMonth(year, month) || hour > 23 || minute > 59 || second > 59 || millis > 999) {
+                return false;
+            }
+            if (!time) {
+                // 時刻の項目がなければ夏時間の影響を受けない
+                return true;
+            }
+            final long local = (((daysFromEpoch(year, month, day) * 24 + hour) * 60 + minute) * 60
+                    + second) * 1000 + millis;
+            return existsLocalTime(local);
+        }
+
+        /**
+         * フォーマットどおりの桁数でない値のチェックを行う。
+         *
+         * <p>
+         * 数値項目に現れない英字を含む値は{@link SimpleDateFormat}を利用せずにエラーとする。
+         * </p>
+         *
+         * @param value 文字列
+         * @param start 開始位置(前後の空白を除く)
+         * @param end 終了位置(前後の空白を除く)
+         * @return 日付フォーマットの場合<code>true</code>
+         */
+        private boolean matchesIrregular(final CharSequence value, final int start,
+                final int end) {
+            if (start == end) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                final char c = value.charAt(i);
+                if (isAsciiLetter(c) && !isLiteral(c)) {
+                    return false;
+                }
+            }
+            return parser.matches(value);
+        }
+
+        /**
+         * 区切り文字かをチェックする。
+         *
+         * @param c 文字
+         * @return 区切り文字の場合<code>true</code>
+         */
+        private boolean isLiteral(final char c) {
+            for (int i = 0; i < kinds.length; i++) {
+                if (kinds[i] == LITERAL && literals[i] == c) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 地方時がタイムゾーン上に存在するかをチェックする。(夏時間の開始で飛ばされる時刻は存在しない)
+         *
+         * @param local 1970年1月1日からの地方時のミリ秒
+         * @return 存在する場合<code>true</code>
+         */
+        private boolean existsLocalTime(final long local) {
+            final long before = local - zone.getOffset(local - DAY_MILLIS);
+            if (before + zone.getOffset(before) == local) {
+                return true;
+            }
+            final long after = local - zone.getOffset(local + DAY_MILLIS);
+            return after + zone.getOffset(after) == local;
+        }
+
+        /**
+         * 月の日数を取得する。
+         *
+         * @param year 年
+         * @param month 月
+         * @return 月の日数
+         */
+        private static int daysOfMonth(final int year, final int month) {
+            switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+            }
+        }
+
+        /**
+         * 1970年1月1日からの日数を取得する。
+         *
+         * @param year 年
+         * @param month 月
+         * @param day 日
+         * @return 1970年1月1日からの日数
+         */
+        private static long daysFromEpoch(final int year, final int month, final int day) {
+            final int y = month <= 2 ? year - 1 : year;
+            final int era = y / 400;
+            final int yoe = y - era * 400;
+            final int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+            final int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+            return (long) era * 146097 + doe - DAYS_0000_TO_1970;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.util.List;
+
+/**
+ * {@link com.github.nakamurakj.validator.processor.ValidatorProcessor}が生成するValidatorのインターフェース
+ *
+ * <p>
+ * 生成されたValidatorはリフレクションを利用せず、{@link Validators}のチェックを直接呼び出す。
+ * 実装はスレッドセーフである。
+ * </p>
+ *
+ * @param <T> 検証を行うクラス
+ * @see GeneratedValidators
+ */
+public interface GeneratedValidator<T> {
+
+    /**
+     * 検証を行うクラスを取得する。
+     *
+     * @return 検証を行うクラス
+     */
+    Class<T> getBeanClass();
+
+    /**
+     * Beanにエラーがないかを判定する。最初のエラーで検証を打ち切る。
+     *
+     * @param bean 対象のBean(<code>null</code>不可)
+     * @return エラーがない場合<code>true</code>
+     */
+    boolean isValid(T bean);
+
+    /**
+     * BeanのValidationを行う。
+     *
+     * @param bean 対象のBean(<code>null</code>不可)
+     * @return {@code GeneratedViolation}のリスト(エラーがない場合は変更不可の空のリスト)
+     */
+    List<GeneratedViolation<T>> validate(T bean);
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.util.List;
+
+import javax.validation.ValidationException;
+
+/**
+ * {@link com.github.nakamurakj.validator.processor.ValidatorProcessor}が生成したValidatorのHandler
+ *
+ * <p>
+ * {@link BeanValidator}と同様にBeanのValidationを行う。
+ * Beanのクラスに生成されたValidatorがない場合は、スーパークラスのValidatorを利用する。
+ * 読み込んだValidatorはクラスごとにキャッシュする。
+ * 生成されたValidatorが存在しないことも{@link #NOT_FOUND}としてキャッシュし、クラスの検索を繰り返さない。
+ * </p>
+ */
+public final class GeneratedValidators {
+
+    /** 生成するValidatorのクラス名の接尾辞 */
+    public static final String CLASS_NAME_SUFFIX = "_Validator";
+
+    /** 生成されたValidatorが存在しないことを表すキャッシュの値 */
+    private static final GeneratedValidator<Object> NOT_FOUND = new GeneratedValidator<Object>() {
+        @Override
+        public Class<Object> getBeanClass() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isValid(final Object bean) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<GeneratedViolation<Object>> validate(final Object bean) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    /** 読み込んだValidatorのキャッシュ */
+    private static final BoundedCache<Class<?>, GeneratedValidator<?>> VALIDATOR_CACHE =
+            new BoundedCache<Class<?>, GeneratedValidator<?>>(1024) {
+                @Override
+                protected GeneratedValidator<?> load(final Class<?> key) {
+                    return loadValidator(key);
+                }
+            };
+
+    /**
+     * コンストラクタ
+     */
+    private GeneratedValidators() {
+        // ignore
+    }
+
+    /**
+     * Beanのクラスに対して生成されるValidatorのクラス名を取得する。
+     *
+     * <p>
+     * 例) <code>com.example.Outer$Inner</code>の場合は<code>com.example.Outer_Inner_Validator</code>
+     * </p>
+     *
+     * @param binaryName Beanのクラスのバイナリ名
+     * @return Validatorのクラス名
+     */
+    public static String getValidatorClassName(final String binaryName) {
+        return binaryName.replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Beanのクラスの生成されたValidatorを取得する。
+     *
+     * @param beanClass Beanのクラス
+     * @return 生成されたValidator
+     * @throws IllegalArgumentException 引数エラー
+     * @throws ValidationException 生成されたValidatorが存在しない場合
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedValidator<T> getValidator(final Class<T> beanClass)
+            throws IllegalArgumentException, ValidationException {
+        if (beanClass == null) {
+            throw new IllegalArgumentException("beanClass is null");
+        }
+        return (GeneratedValidator<T>) lookup(beanClass);
+    }
+
+    /**
+     * 生成されたValidatorでBeanのValidationを行う。
+     *
+     * @param bean 対象のBean
+     * @return {@code GeneratedViolation}のリスト(エラーがない場合は変更不可の空のリスト)
+     * @throws IllegalArgumentException 引数エラー
+     * @throws ValidationException 生成されたValidatorが存在しない場合
+     */
+    public static <T> List<GeneratedViolation<T>> validateBean(final T bean)
+            throws IllegalArgumentException, ValidationException {
+        if (bean == null) {
+            throw new IllegalArgumentException("bean is null");
+        }
+        return validatorOf(bean).validate(bean);
+    }
+
+    /**
+     * 生成されたValidatorでBeanにエラーがないかを判定する。最初のエラーで検証を打ち切る。
+     *
+     * @param bean 対象のBean
+     * @return エラーがない場合<code>true</code>
+     * @throws IllegalArgumentException 引数エラー
+     * @throws ValidationException 生成されたValidatorが存在しない場合
+     */
+    public static <T> boolean isValid(final T bean)
+            throws IllegalArgumentException, ValidationException {
+        if (bean == null) {
+            throw new IllegalArgumentException("bean is null");
+        }
+        return validatorOf(bean).isValid(bean);
+    }
+
+    /**
+     * Beanの生成されたValidatorを取得する。
+     *
+     * @param bean 対象のBean
+     * @return 生成されたValidator
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> GeneratedValidator<T> validatorOf(final T bean) {
+        return (GeneratedValidator<T>) lookup(bean.getClass());
+    }
+
+    /**
+     * キャッシュからBeanのクラスの生成されたValidatorを取得する。
+     *
+     * @param beanClass Beanのクラス
+     * @return 生成されたValidator
+     * @throws ValidationException 生成されたValidatorが存在しない場合
+     */
+    private static GeneratedValidator<?> lookup(final Class<?> beanClass)
+            throws ValidationException {
+        final GeneratedValidator<?> validator = VALIDATOR_CACHE.get(beanClass);
+        if (validator == NOT_FOUND) {
+            throw new ValidationException("generated validator not found: " + beanClass.getName());
+        }
+        return validator;
+    }
+
+    /**
+     * 読み込んだValidatorのキャッシュを取得する。
+     *
+     * @return Validatorのキャッシュ
+     */
+    public static BoundedCache<Class<?>, GeneratedValidator<?>> getValidatorCache() {
+        return VALIDATOR_CACHE;
+    }
+
+    /**
+     * 生成されたValidatorを読み込む。
+     *
+     * @param beanClass Beanのクラス
+     * @return 生成されたValidator(存在しない場合は{@link #NOT_FOUND})
+     * @throws ValidationException Validatorのインスタンスを作成できない場合
+     */
+    private static GeneratedValidator<?> loadValidator(final Class<?> beanClass)
+            throws ValidationException {
+        final Class<?> validatorClass;
+        try {
+            validatorClass = Class.forName(getValidatorClassName(beanClass.getName()), true,
+                    beanClass.getClassLoader());
+        } catch (final ClassNotFoundException e) {
+            final Class<?> superclass = beanClass.getSuperclass();
+            if (superclass == null || superclass == Object.class) {
+                return NOT_FOUND;
+            }
+            return VALIDATOR_CACHE.get(superclass);
+        }
+        try {
+            return (GeneratedValidator<?>) validatorClass.getConstructor().newInstance();
+        } catch (final ReflectiveOperationException e) {
+            throw new ValidationException(e);
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 生成されたValidatorのバリデーションエラーを保持するクラス。
+ *
+ * <p>
+ * {@link BeanValidator.ValidateMessage}と同じ形式でエラーを取得できる。
+ * エラーメッセージは初回の取得時に、ValidationMessagesのメッセージとConstraintの属性値から作成する。
+ * EL式(<code>${...}</code>)は補間しない。
+ * </p>
+ *
+ * @param <T> 検証を行うクラス
+ */
+public final class GeneratedViolation<T> {
+
+    /** メッセージのリソースバンドル名 */
+    private static final String BUNDLE_NAME = "ValidationMessages";
+
+    /** バリデーションエラーのBean */
+    private final T rootBean;
+
+    /** エラーのプロパティ名 */
+    private final String targetProperty;
+
+    /** Constraintのアノテーション */
+    private final Class<? extends Annotation> constraint;
+
+    /** メッセージテンプレート */
+    private final String messageTemplate;
+
+    /** Constraintの属性名と値(名前、値の順に交互に格納) */
+    private final String[] attributes;
+
+    /** エラーメッセージ(未作成の場合は<code>null</code>) */
+    private String message;
+
+    /**
+     * コンストラクタ
+     *
+     * @param rootBean バリデーションエラーのBean
+     * @param targetProperty エラーのプロパティ名
+     * @param constraint Constraintのアノテーション
+     * @param messageTemplate メッセージテンプレート
+     * @param attributes Constraintの属性名と値(名前、値の順に交互に格納)
+     */
+    public GeneratedViolation(final T rootBean, final String targetProperty,
+            final Class<? extends Annotation> constraint, final String messageTemplate,
+            final String[] attributes) {
+        this.rootBean = rootBean;
+        this.targetProperty = targetProperty;
+        this.constraint = constraint;
+        this.messageTemplate = messageTemplate;
+        this.attributes = attributes;
+    }
+
+    /**
+     * エラーをリストに追加する。生成されたValidatorから呼び出す。
+     *
+     * @param violations エラーのリスト(未作成の場合は<code>null</code>)
+     * @param violation エラー
+     * @return エラーのリスト
+     */
+    public static <T> List<GeneratedViolation<T>> add(final List<GeneratedViolation<T>> violations,
+            final GeneratedViolation<T> violation) {
+        final List<GeneratedViolation<T>> list =
+                violations == null ? new ArrayList<GeneratedViolation<T>>(4) : violations;
+        list.add(violation);
+        return list;
+    }
+
+    /**
+     * バリデーションエラーのBeanを取得する。
+     *
+     * @return バリデーションエラーのBean
+     */
+    public T getRootBean() {
+        return rootBean;
+    }
+
+    /**
+     * バリデーションエラーのBeanのクラス名を取得する。
+     *
+     * @return バリデーションエラーのBeanのクラス名
+     */
+    public String getRootBeanName() {
+        return rootBean.getClass().getSimpleName();
+    }
+
+    /**
+     * エラーのプロパティ名を取得する。
+     *
+     * @return エラーのプロパティ名
+     */
+    public String getTargetProperty() {
+        return targetProperty;
+    }
+
+    /**
+     * Constraintのアノテーションを取得する。
+     *
+     * @return Constraintのアノテーション
+     */
+    public Class<? extends Annotation> getConstraint() {
+        return constraint;
+    }
+
+    /**
+     * メッセージテンプレートを取得する。
+     *
+     * @return メッセージテンプレート
+     */
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    /**
+     * エラーメッセージを取得する。
+     *
+     * @return エラーメッセージ
+     */
+    public String getMessage() {
+        String text = message;
+        if (text == null) {
+            text = interpolate(interpolate(messageTemplate, true), false);
+            message = text;
+        }
+        return text;
+    }
+
+    /**
+     * エラーを取得する。
+     *
+     * @return エラー
+     */
+    public String getError() {
+        return "Invalid" + StringUtils.capitalize(targetProperty);
+    }
+
+    /**
+     * エラーメッセージを作成する。
+     *
+     * @return エラーメッセージ
+     */
+    public String createErrorMessage() {
+        return getRootBeanName() + "#" + targetProperty + "[" + getMessage() + "]";
+    }
+
+    /**
+     * メッセージの<code>{...}</code>を置き換える。
+     *
+     * @param template メッセージ
+     * @param bundle リソースバンドルのメッセージで置き換える場合<code>true</code>、属性値で置き換える場合<code>false</code>
+     * @return 置き換えたメッセージ
+     */
+    private String interpolate(final String template, final boolean bundle) {
+        int start = template.indexOf('{');
+        if (start < 0) {
+            return template;
+        }
+        final StringBuilder builder = new StringBuilder(template.length() + 16);
+        int from = 0;
+        while (start >= 0) {
+            final int end = template.indexOf('}', start + 1);
+            if (end < 0) {
+                break;
+            }
+            final String key = template.substring(start + 1, end);
+            final String value = bundle ? getBundleMessage(key) : getAttribute(key);
+            if (value != null && (start == 0 || template.charAt(start - 1) != '$')) {
+                builder.append(template, from, start).append(value);
+                from = end + 1;
+            }
+            start = template.indexOf('{', end + 1);
+        }
+        return builder.append(template, from, template.length()).toString();
+    }
+
+    /**
+     * 属性値を取得する。
+     *
+     * @param name 属性名
+     * @return 属性値(存在しない場合は<code>null</code>)
+     */
+    private String getAttribute(final String name) {
+        for (int i = 0; i + 1 < attributes.length; i += 2) {
+            if (attributes[i].equals(name)) {
+                return attributes[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * リソースバンドルのメッセージを取得する。
+     *
+     * @param key キー
+     * @return メッセージ(存在しない場合は<code>null</code>)
+     */
+    private static String getBundleMessage(final String key) {
+        try {
+            return ResourceBundle.getBundle(BUNDLE_NAME).getString(key);
+        } catch (final MissingResourceException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.validation.ValidationException;
+
+/**
+ * 電話番号の番号体系
+ *
+ * <p>
+ * 先頭の数字ごとに市外局番、市内局番、加入者番号の桁数を定義し、
+ * 数字1桁ごとに分岐するトライ木(配列に格納)で最も長く一致した定義を検索する。
+ * 判定は電話番号の桁数に比例する時間で行い、オブジェクトを作成しない。
+ * 不変のためスレッドセーフである。
+ * </p>
+ *
+ * <p>
+ * 定義ファイルは1行に「先頭の数字 区切り方」を記述する(<code>#</code>以降はコメント)。
+ * 区切り方は<code>2-4-4</code>のような各ブロックの桁数(カンマ区切りで複数指定可)、
+ * または使用されていない番号を表す<code>-</code>のいずれか。
+ * </p>
+ */
+public final class TelNoPlan {
+
+    /** 同梱の定義ファイル */
+    private static final String DEFAULT_RESOURCE = "tel_no_plan.txt";
+
+    /** 定義ファイルの文字セット */
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    /** 定義なし */
+    private static final int NONE = 0;
+
+    /** 使用されていない番号 */
+    private static final int UNUSED = -1;
+
+    /** 電話番号の最大桁数 */
+    private static final int MAX_DIGITS = 11;
+
+    /** デフォルトの番号体系 */
+    private static volatile TelNoPlan defaultPlan;
+
+    /** ノードごとの子ノード(ノード番号*10+数字、子がない場合は0) */
+    private final int[] children;
+
+    /** ノードごとの定義(区切り方の番号+1、{@link #NONE}、{@link #UNUSED}) */
+    private final int[] values;
+
+    /** 区切り方(番号ごとの各ブロックの桁数) */
+    private final int[][][] layouts;
+
+    /**
+     * コンストラクタ
+     *
+     * @param children 子ノード
+     * @param values 定義
+     * @param layouts 区切り方
+     */
+    private TelNoPlan(final int[] children, final int[] values, final int[][][] layouts) {
+        this.children = children;
+        this.values = values;
+        this.layouts = layouts;
+    }
+
+    /**
+     * 定義ファイルから番号体系を読み込む。
+     *
+     * @param in 定義ファイル(UTF-8、クローズは呼び出し元で行うこと)
+     * @return 番号体系
+     * @throws IOException 読み込みに失敗した場合
+     * @throws IllegalArgumentException 定義ファイルの形式が不正な場合
+     */
+    public static TelNoPlan load(final InputStream in) throws IOException, IllegalArgumentException {
+        final Builder builder = new Builder();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, CHARSET));
+        String line;
+        int lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            final int comment = line.indexOf('#');
+            final String text = (comment < 0 ? line : line.substring(0, comment)).trim();
+            if (text.isEmpty()) {
+                continue;
+            }
+            final String[] columns = text.split("\\s+");
+            if (columns.length != 2) {
+                throw new IllegalArgumentException("invalid tel no plan: line " + lineNo);
+            }
+            builder.add(columns[0], columns[1], lineNo);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 電話番号が番号体系に合っているかを判定する。
+     *
+     * <p>
+     * ハイフンで区切った形式(03-1234-5678)と区切らない形式(0312345678)を受け付ける。
+     * ハイフンで区切った場合は、各ブロックの桁数が定義と一致する必要がある。
+     * </p>
+     *
+     * @param tel 電話番号
+     * @return 番号体系に合っている場合<code>true</code>
+     */
+    public boolean matches(final CharSequence tel) {
+        if (tel == null) {
+            return false;
+        }
+        final int length = tel.length();
+        int digits = 0;
+        int hyphens = 0;
+        int firstHyphen = -1;
+        int secondHyphen = -1;
+        int node = 0;
+        int value = NONE;
+        for (int i = 0; i < length; i++) {
+            final char c = tel.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return false;
+                }
+                if (node >= 0) {
+                    node = children[node * 10 + (c - '0')] - 1;
+                    if (node >= 0 && values[node] != NONE) {
+                        value = values[node];
+                    }
+                }
+            } else if (c == '-' && hyphens < 2 && i > 0 && i < length - 1
+                    && tel.charAt(i - 1) != '-') {
+                if (hyphens++ == 0) {
+                    firstHyphen = digits;
+                } else {
+                    secondHyphen = digits;
+                }
+            } else {
+                return false;
+            }
+        }
+        if (value == NONE || value == UNUSED || hyphens == 1) {
+            return false;
+        }
+        for (final int[] layout : layouts[value - 1]) {
+            if (layout[0] + layout[1] + layout[2] == digits
+                    && (hyphens == 0
+                            || firstHyphen == layout[0] && secondHyphen == layout[0] + layout[1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * デフォルトの番号体系を取得する。設定されていない場合は同梱の定義ファイルを読み込む。
+     *
+     * @return 番号体系
+     * @throws ValidationException 同梱の定義ファイルの読み込みに失敗した場合
+     */
+    public static TelNoPlan getDefault() throws ValidationException {
+        final TelNoPlan plan = defaultPlan;
+        if (plan != null) {
+            return plan;
+        }
+        synchronized (TelNoPlan.class) {
+            if (defaultPlan == null) {
+                final InputStream in = TelNoPlan.class.getResourceAsStream(DEFAULT_RESOURCE);
+                if (in == null) {
+                    throw new ValidationException("tel no plan not found: " + DEFAULT_RESOURCE);
+                }
+                try {
+                    try {
+                        defaultPlan = load(in);
+                    } finally {
+                        in.close();
+                    }
+                } catch (final IOException e) {
+                    throw new ValidationException("failed to load tel no plan", e);
+                }
+            }
+            return defaultPlan;
+        }
+    }
+
+    /**
+     * デフォルトの番号体系を設定する。
+     *
+     * @param plan 番号体系(<code>null</code>の場合は同梱の定義ファイルに戻す)
+     */
+    public static void setDefault(final TelNoPlan plan) {
+        defaultPlan = plan;
+    }
+
+    /**
+     * 定義ファイルからトライ木を組み立てるクラス
+     */
+    private static final class Builder {
+
+        /** 子ノード */
+        private int[] children = new int[10 * 64];
+
+        /** 定義 */
+        private int[] values = new int[64];
+
+        /** ノード数 */
+        private int size = 1;
+
+        /** 区切り方 */
+        private final List<int[][]> layouts = new ArrayList<int[][]>();
+
+        /**
+         * 定義を追加する。
+         *
+         * @param prefix 先頭の数字
+         * @param layout 区切り方
+         * @param lineNo 行番号
+         * @throws IllegalArgumentException 形式が不正な場合
+         */
+        private void add(final String prefix, final String layout, final int lineNo)
+                throws IllegalArgumentException {
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                final char c = prefix.charAt(i);
+                if (c < '0' || c > '9' || prefix.length() > MAX_DIGITS) {
+                    throw new IllegalArgumentException("invalid prefix: line " + lineNo);
+                }
+                final int index = node * 10 + (c - '0');
+                if (children[index] == 0) {
+                    ensureCapacity(size + 1);
+                    children[index] = ++size;
+                }
+                node = children[index] - 1;
+            }
+            values[node] = parseLayout(layout, lineNo);
+        }
+
+        /**
+         * 区切り方を解析する。
+         *
+         * @param layout 区切り方
+         * @param lineNo 行番号
+         * @return 定義
+         * @throws IllegalArgumentException 形式が不正な場合
+         */
+        private int parseLayout(final String layout, final int lineNo)
+                throws IllegalArgumentException {
+            if ("-".equals(layout)) {
+                return UNUSED;
+            }
+            final String[] alternatives = layout.split(",");
+            final int[][] parsed = new int[alternatives.length][];
+            for (int i = 0; i < alternatives.length; i++) {
+                final String[] blocks = alternatives[i].split("-");
+                if (blocks.length != 3) {
+                    throw new IllegalArgumentException("invalid layout: line " + lineNo);
+                }
+                parsed[i] = new int[3];
+                for (int j = 0; j < 3; j++) {
+                    try {
+                        parsed[i][j] = Integer.parseInt(blocks[j]);
+                    } catch (final NumberFormatException e) {
+                        throw new IllegalArgumentException("invalid layout: line " + lineNo);
+                    }
+                    if (parsed[i][j] < 1) {
+                        throw new IllegalArgumentException("invalid layout: line " + lineNo);
+                    }
+                }
+            }
+            layouts.add(parsed);
+            return layouts.size();
+        }
+
+        /**
+         * ノードの容量を確保する。
+         *
+         * @param capacity 必要なノード数
+         */
+        private void ensureCapacity(final int capacity) {
+            if (capacity > values.length) {
+                final int newCapacity = Math.max(capacity, values.length * 2);
+                values = Arrays.copyOf(values, newCapacity);
+                children = Arrays.copyOf(children, newCapacity * 10);
+            }
+        }
+
+        /**
+         * 番号体系を作成する。
+         *
+         * @return 番号体系
+         */
+        private TelNoPlan build() {
+            return new TelNoPlan(Arrays.copyOf(children, size * 10), Arrays.copyOf(values, size),
+                    layouts.toArray(new int[layouts.size()][][]));
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 許容する文字列の集合
+ *
+ * <p>
+ * 文字列を長さごとに分類して保持し、同じ長さの候補とのみ1文字ずつ比較する。
+ * 判定時にオブジェクトを作成しない。
+ * 大文字小文字を区別しない場合は{@link Character#toLowerCase(char)}で比較する。
+ * 不変のためスレッドセーフである。
+ * </p>
+ */
+public final class TokenSet {
+
+    /** 空の候補 */
+    private static final char[][] EMPTY = new char[0][];
+
+    /** 長さごとの候補(大文字小文字を区別しない場合は小文字に変換済み) */
+    private final char[][][] tokensByLength;
+
+    /** 大文字小文字を区別しないか */
+    private final boolean ignoreCase;
+
+    /**
+     * コンストラクタ
+     *
+     * @param tokens 許容する文字列
+     * @param ignoreCase 大文字小文字を区別しない場合<code>true</code>
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public TokenSet(final String[] tokens, final boolean ignoreCase)
+            throws IllegalArgumentException {
+        if (tokens == null) {
+            throw new IllegalArgumentException("tokens is null");
+        }
+        int maxLength = -1;
+        for (final String token : tokens) {
+            if (token == null) {
+                throw new IllegalArgumentException("token is null");
+            }
+            maxLength = Math.max(maxLength, token.length());
+        }
+        final List<List<char[]>> buckets = new ArrayList<List<char[]>>(maxLength + 1);
+        for (int i = 0; i <= maxLength; i++) {
+            buckets.add(new ArrayList<char[]>(2));
+        }
+        for (final String token : tokens) {
+            final char[] chars = token.toCharArray();
+            if (ignoreCase) {
+                for (int i = 0; i < chars.length; i++) {
+                    chars[i] = Character.toLowerCase(chars[i]);
+                }
+            }
+            final List<char[]> bucket = buckets.get(chars.length);
+            if (!containsToken(bucket, chars)) {
+                bucket.add(chars);
+            }
+        }
+        this.tokensByLength = new char[maxLength + 1][][];
+        for (int i = 0; i <= maxLength; i++) {
+            final List<char[]> bucket = buckets.get(i);
+            tokensByLength[i] = bucket.isEmpty() ? EMPTY : bucket.toArray(new char[bucket.size()][]);
+        }
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * 同じ候補が登録済みかを判定する。
+     *
+     * @param bucket 候補
+     * @param chars 文字列
+     * @return 登録済みの場合<code>true</code>
+     */
+    private static boolean containsToken(final List<char[]> bucket, final char[] chars) {
+        for (final char[] token : bucket) {
+            if (Arrays.equals(token, chars)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 文字列が許容する文字列のいずれかと一致するかを判定する。
+     *
+     * @param string 文字列
+     * @return 一致する場合<code>true</code>(<code>null</code>の場合は<code>false</code>)
+     */
+    public boolean contains(final CharSequence string) {
+        if (string == null) {
+            return false;
+        }
+        final int length = string.length();
+        if (length >= tokensByLength.length) {
+            return false;
+        }
+        for (final char[] token : tokensByLength[length]) {
+            if (matches(token, string, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 候補と文字列を比較する。
+     *
+     * @param token 候補
+     * @param string 文字列
+     * @param length 文字列の長さ
+     * @return 一致する場合<code>true</code>
+     */
+    private boolean matches(final char[] token, final CharSequence string, final int length) {
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c != token[i] && (!ignoreCase || Character.toLowerCase(c) != token[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 大文字小文字を区別しないかを取得する。
+     *
+     * @return 区別しない場合<code>true</code>
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+}
@@ -16,42 +16,93 @@
  */
 package com.github.nakamurakj.validator;
 
-import static org.apache.commons.lang3.StringUtils.*;
-
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.commons.validator.routines.DateValidator;
-
 /**
  * Validator
+ *
+ * <p>
+ * 各チェックには{@link CharSequence}を受け取るオーバーロードがあり、
+ * {@link java.nio.CharBuffer}などを{@link String}に変換せずにチェックできる。
+ * また、半角数値、カタカナ、ひらがなのチェックには{@link ByteEncoding}のバイト列を
+ * デコードせずにチェックするオーバーロードがある。
+ * </p>
  */
 public final class Validators {
 
     /** 真偽型 */
-    private static final Boolean[] BOOLEAN_VALUES = {Boolean.TRUE, Boolean.FALSE};
+    private static final TokenSet BOOLEAN_TOKENS = new TokenSet(new String[] {"true", "false"}, true);
     /** yes/no */
-    private static final String[] YES_OR_NO_VALUES = {"yes", "no"};
-
-    /** 正規表現：全角カナ */
-    private static final String KATAKANA_REGEX = "^[\u30A0-\u30FF]+$";
-    /** 正規表現：半角カナ */
-    private static final String HALF_KATAKANA_REGEX = "^[\uFF65-\uFF9F]+$";
-    /** 正規表現：全角かな */
-    private static final String HIRAGANA_REGEX = "^[\u3040-\u309F]+$";;
-    /** 正規表現：電話番号 */
-    /* 正規表現はこちらを参考(http://lightmaterial.blogspot.jp/2007/10/blog-post_14.html) */
-    private final static String TEL_NO_REGEX =
-            "(?!^(090|080|070|050))(?=^\\d{2,5}?-\\d{1,4}?-\\d{4}$)[\\d-]{12}|(?=^(090|080|070|050)-\\d{4}-\\d{4}$)[\\d-]{13}";
-    /** 正規表現：郵便番号 */
-    private final static String ZIP_CODE_REGEX = "[0-9]{3}+-[0-9]{4}+";
-    /** 正規表現：半角数値 */
-    private final static String HALF_NUMBER_REGEX = "^[0-9]*$";
-
-    private static final String SPACE = " ";
-    private static final String EM_SPACE = "　";
-    private static final String EM_LONG_MARKS = "ー";
+    private static final TokenSet YES_OR_NO_TOKENS = new TokenSet(new String[] {"yes", "no"}, true);
+
+    /** 郵便番号(ハイフンあり)の文字数 */
+    private static final int ZIP_CODE_LENGTH = 8;
+    /** 郵便番号のハイフンの位置 */
+    private static final int ZIP_CODE_SEPARATOR_INDEX = 3;
+    /** 全角ハイフン */
+    private static final char EM_HYPHEN = '\uFF0D';
+    /** 全角数字の0 */
+    private static final char EM_ZERO = '\uFF10';
+    /** 全角数字の9 */
+    private static final char EM_NINE = '\uFF19';
+
+    /** 正規表現キャッシュの最大件数 */
+    private static final int PATTERN_CACHE_SIZE = 256;
+    /** 任意の正規表現のコンパイル結果のキャッシュ */
+    private static final BoundedCache<String, Pattern> PATTERN_CACHE =
+            new BoundedCache<String, Pattern>(PATTERN_CACHE_SIZE) {
+                @Override
+                protected Pattern load(String regex) {
+                    return Pattern.compile(regex);
+                }
+            };
+
+    /** 文字セットキャッシュの最大件数 */
+    private static final int CHARSET_CACHE_SIZE = 1024;
+    /** 文字セット名(大文字)ごとの有効チェック結果のキャッシュ */
+    private static final BoundedCache<String, Boolean> CHARSET_CACHE =
+            new BoundedCache<String, Boolean>(CHARSET_CACHE_SIZE) {
+                @Override
+                protected Boolean load(String name) {
+                    try {
+                        return Charset.isSupported(name);
+                    } catch (IllegalArgumentException e) {
+                        return Boolean.FALSE;
+                    }
+                }
+            };
+
+    /** 全角カナの範囲(開始) */
+    private static final char KATAKANA_FIRST = '\u30A0';
+    /** 全角カナの範囲(終了) */
+    private static final char KATAKANA_LAST = '\u30FF';
+    /** 半角カナの範囲(開始) */
+    private static final char HALF_KATAKANA_FIRST = '\uFF65';
+    /** 半角カナの範囲(終了) */
+    private static final char HALF_KATAKANA_LAST = '\uFF9F';
+    /** 全角かなの範囲(開始) */
+    private static final char HIRAGANA_FIRST = '\u3040';
+    /** 全角かなの範囲(終了) */
+    private static final char HIRAGANA_LAST = '\u309F';
+
+    /*
+     * 電話番号の形式(参考:http://lightmaterial.blogspot.jp/2007/10/blog-post_14.html)
+     *   固定電話：市外局番(2～5桁)-市内局番(1～4桁)-加入者番号(4桁)の12文字
+     *   携帯電話等：090|080|070|050-4桁-4桁の13文字
+     */
+    /** 電話番号(固定電話)の文字数 */
+    private static final int TEL_NO_LENGTH = 12;
+    /** 電話番号(携帯電話等)の文字数 */
+    private static final int MOBILE_TEL_NO_LENGTH = 13;
+    /** 電話番号の区切り文字 */
+    private static final char TEL_NO_SEPARATOR = '-';
+
+    private static final char SPACE = ' ';
+    private static final char EM_SPACE = '　';
+    private static final char EM_LONG_MARKS = 'ー';
 
     /**
      * private constractors
@@ -70,17 +121,119 @@ public final class Validators {
      * @return 数値型文字列の場合<code>true</code>
      */
     public static boolean isNumberString(String string, int min, int max) {
-        if (string != null && string.length() >= min && string.length() <= max) {
-            try {
-            	long value = Long.parseLong(string);
-                return Long.MIN_VALUE <= value && value <= Long.MAX_VALUE;
-            } catch (NumberFormatException e) {
-                // ignore
-            }
+        return isNumberString((CharSequence) string, min, max, false);
+    }
+
+    /**
+     * 数値型文字列の形式チェック
+     *
+     * @param chars 文字列
+     * @param min 最小桁
+     * @param max 最大桁
+     * @return 数値型文字列の場合<code>true</code>
+     */
+    public static boolean isNumberString(CharSequence chars, int min, int max) {
+        return isNumberString(chars, min, max, false);
+    }
+
+    /**
+     * 数値型文字列の形式チェック
+     *
+     * @param string 文字列
+     * @param min 最小桁
+     * @param max 最大桁
+     * @param arbitraryLength <code>long</code>の範囲を超える桁数を許容する場合<code>true</code>
+     * @return 数値型文字列の場合<code>true</code>
+     */
+    public static boolean isNumberString(String string, int min, int max,
+            boolean arbitraryLength) {
+        return isNumberString((CharSequence) string, min, max, arbitraryLength);
+    }
+
+    /**
+     * 数値型文字列の形式チェック
+     *
+     * @param chars 文字列
+     * @param min 最小桁
+     * @param max 最大桁
+     * @param arbitraryLength <code>long</code>の範囲を超える桁数を許容する場合<code>true</code>
+     * @return 数値型文字列の場合<code>true</code>
+     */
+    public static boolean isNumberString(CharSequence chars, int min, int max,
+            boolean arbitraryLength) {
+        if (chars != null && chars.length() >= min && chars.length() <= max) {
+            return arbitraryLength ? isDigits(chars) : isLongValue(chars);
         }
         return false;
     }
 
+    /**
+     * 符号付きの数字列かをチェックする。
+     *
+     * @param chars 文字列
+     * @return 符号(任意)と1桁以上の数字で構成されている場合<code>true</code>
+     */
+    private static boolean isDigits(CharSequence chars) {
+        final int length = chars.length();
+        final int start = hasSign(chars) ? 1 : 0;
+        if (length <= start) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            if (Character.digit(chars.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <code>long</code>として解析できる文字列かを例外を利用せずにチェックする。
+     *
+     * <p>
+     * 判定は{@link Long#parseLong(String)}と同じで、
+     * 桁あふれは負数側で累積しながら検出する。
+     * </p>
+     *
+     * @param chars 文字列
+     * @return <code>long</code>として解析できる場合<code>true</code>
+     */
+    private static boolean isLongValue(CharSequence chars) {
+        final int length = chars.length();
+        final int start = hasSign(chars) ? 1 : 0;
+        if (length <= start) {
+            return false;
+        }
+        final long limit = chars.charAt(0) == '-' ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multmin = limit / 10;
+        long result = 0;
+        for (int i = start; i < length; i++) {
+            final int digit = Character.digit(chars.charAt(i), 10);
+            if (digit < 0 || result < multmin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * 先頭が符号かをチェックする。
+     *
+     * @param chars 文字列
+     * @return 先頭が"+"または"-"の場合<code>true</code>
+     */
+    private static boolean hasSign(CharSequence chars) {
+        if (chars.length() == 0) {
+            return false;
+        }
+        final char first = chars.charAt(0);
+        return first == '-' || first == '+';
+    }
 
     /**
      * 半角数値型文字列の形式チェック
@@ -89,7 +242,27 @@ public final class Validators {
      * @return 半角数値型文字列の場合<code>true</code>
      */
     public static boolean isHalfNumber(String string) {
-        return isPatternMatch(string, HALF_NUMBER_REGEX);
+        return isHalfNumber((CharSequence) string);
+    }
+
+    /**
+     * 半角数値型文字列の形式チェック
+     *
+     * @param chars 文字列
+     * @return 半角数値型文字列(空文字列を含む)の場合<code>true</code>
+     */
+    public static boolean isHalfNumber(CharSequence chars) {
+        if (chars == null) {
+            return false;
+        }
+        final int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
 
@@ -101,26 +274,175 @@ public final class Validators {
      * @return 電話番号形式の場合<code>true</code>
      */
     public static boolean isTelNo(String tel, String regex) {
+        return isTelNo((CharSequence) tel, regex);
+    }
+
+    /**
+     * 電話番号の形式チェック
+     *
+     * @param tel 電話番号
+     * @param regex 正規表現(<code>null</code>の場合は標準の電話番号形式)
+     * @return 電話番号形式の場合<code>true</code>
+     */
+    public static boolean isTelNo(CharSequence tel, String regex) {
         if (regex == null) {
-            return isPatternMatch(tel, TEL_NO_REGEX);
+            return tel != null && matchesTelNo(tel);
         }
         return isPatternMatch(tel, regex);
     }
 
+    /**
+     * 標準の電話番号形式を1回の走査でチェックする。
+     *
+     * <p>
+     * 先頭3文字で携帯電話等(090,080,070,050)かを判定し、
+     * 区切り文字ごとに各ブロックの桁数を確定させる。バックトラックは行わない。
+     * </p>
+     *
+     * @param tel 電話番号
+     * @return 電話番号形式の場合<code>true</code>
+     */
+    private static boolean matchesTelNo(CharSequence tel) {
+        final int length = tel.length();
+        if (length != TEL_NO_LENGTH && length != MOBILE_TEL_NO_LENGTH) {
+            return false;
+        }
+        final boolean mobile = tel.charAt(0) == '0' && isMobilePrefix(tel.charAt(1))
+                && tel.charAt(2) == '0';
+        if (mobile != (length == MOBILE_TEL_NO_LENGTH)) {
+            return false;
+        }
+        // 0:市外局番, 1:市内局番, 2:加入者番号
+        int block = 0;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = tel.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == TEL_NO_SEPARATOR && block < 2) {
+                if (!isTelNoBlockLength(block, digits, mobile)) {
+                    return false;
+                }
+                block++;
+                digits = 0;
+            } else {
+                return false;
+            }
+        }
+        return block == 2 && digits == 4;
+    }
+
+    /**
+     * 携帯電話等の番号の2文字目かをチェックする。
+     *
+     * @param c 文字
+     * @return 090,080,070,050の2文字目の場合<code>true</code>
+     */
+    private static boolean isMobilePrefix(char c) {
+        return c == '9' || c == '8' || c == '7' || c == '5';
+    }
+
+    /**
+     * 電話番号の市外局番、市内局番の桁数をチェックする。
+     *
+     * @param block ブロック(0:市外局番, 1:市内局番)
+     * @param digits 桁数
+     * @param mobile 携帯電話等の場合<code>true</code>
+     * @return 桁数が正しい場合<code>true</code>
+     */
+    private static boolean isTelNoBlockLength(int block, int digits, boolean mobile) {
+        if (mobile) {
+            return digits == (block == 0 ? 3 : 4);
+        }
+        return block == 0 ? (digits >= 2 && digits <= 5) : (digits >= 1 && digits <= 4);
+    }
+
 
     /**
      * 郵便番号の形式チェック
      *
      * @param zip 郵便番号
+     * @param regex 正規表現(<code>null</code>の場合は半角数字3桁-4桁)
      * @return 郵便番号形式の場合<code>true</code>
      */
     public static boolean isZipCode(String zip, String regex) {
+        return isZipCode((CharSequence) zip, regex);
+    }
+
+    /**
+     * 郵便番号の形式チェック
+     *
+     * @param zip 郵便番号
+     * @param regex 正規表現(<code>null</code>の場合は半角数字3桁-4桁)
+     * @return 郵便番号形式の場合<code>true</code>
+     */
+    public static boolean isZipCode(CharSequence zip, String regex) {
         if (regex == null) {
-            return isPatternMatch(zip, ZIP_CODE_REGEX);
+            return isZipCode(zip, true, false, false);
         }
         return isPatternMatch(zip, regex);
     }
 
+    /**
+     * 郵便番号の形式チェック
+     *
+     * <p>
+     * 数字3桁-4桁(8文字)または数字7桁(7文字)の形式を1文字ずつ判定する。
+     * </p>
+     *
+     * @param zip 郵便番号
+     * @param hyphen ハイフンあり(123-4567)を許容する場合<code>true</code>
+     * @param noHyphen ハイフンなし(1234567)を許容する場合<code>true</code>
+     * @param fullWidth 全角数字(０～９)、全角ハイフン(－)を許容する場合<code>true</code>
+     * @return 郵便番号形式の場合<code>true</code>
+     */
+    public static boolean isZipCode(String zip, boolean hyphen, boolean noHyphen,
+            boolean fullWidth) {
+        return isZipCode((CharSequence) zip, hyphen, noHyphen, fullWidth);
+    }
+
+    /**
+     * 郵便番号の形式チェック
+     *
+     * @param zip 郵便番号
+     * @param hyphen ハイフンあり(123-4567)を許容する場合<code>true</code>
+     * @param noHyphen ハイフンなし(1234567)を許容する場合<code>true</code>
+     * @param fullWidth 全角数字(０～９)、全角ハイフン(－)を許容する場合<code>true</code>
+     * @return 郵便番号形式の場合<code>true</code>
+     */
+    public static boolean isZipCode(CharSequence zip, boolean hyphen, boolean noHyphen,
+            boolean fullWidth) {
+        if (zip == null) {
+            return false;
+        }
+        final int length = zip.length();
+        final boolean separated;
+        if (length == ZIP_CODE_LENGTH) {
+            separated = true;
+            if (!hyphen) {
+                return false;
+            }
+        } else if (length == ZIP_CODE_LENGTH - 1) {
+            separated = false;
+            if (!noHyphen) {
+                return false;
+            }
+        } else {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = zip.charAt(i);
+            if (separated && i == ZIP_CODE_SEPARATOR_INDEX) {
+                if (c != '-' && !(fullWidth && c == EM_HYPHEN)) {
+                    return false;
+                }
+            } else if ((c < '0' || c > '9') && !(fullWidth && c >= EM_ZERO && c <= EM_NINE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 正規表現に合った形式チェック
      *
@@ -129,13 +451,77 @@ public final class Validators {
      * @return 正規表現に合った形式の場合<code>true</code>
      */
     public static boolean isPatternMatch(String string, String regex) {
-        if (string != null && regex != null) {
-            Matcher matcher = Pattern.compile(regex).matcher(string);
+        return isPatternMatch((CharSequence) string, regex);
+    }
+
+    /**
+     * 正規表現に合った形式チェック
+     *
+     * @param chars 文字列
+     * @param regex 正規表現
+     * @return 正規表現に合った形式の場合<code>true</code>
+     */
+    public static boolean isPatternMatch(CharSequence chars, String regex) {
+        if (chars != null && regex != null) {
+            return isPatternMatch(chars, PATTERN_CACHE.get(regex));
+        }
+        return false;
+    }
+
+    /**
+     * コンパイル済み正規表現に合った形式チェック
+     *
+     * @param string 文字列
+     * @param pattern コンパイル済み正規表現
+     * @return 正規表現に合った形式の場合<code>true</code>
+     */
+    public static boolean isPatternMatch(String string, Pattern pattern) {
+        return isPatternMatch((CharSequence) string, pattern);
+    }
+
+    /**
+     * コンパイル済み正規表現に合った形式チェック
+     *
+     * @param chars 文字列
+     * @param pattern コンパイル済み正規表現
+     * @return 正規表現に合った形式の場合<code>true</code>
+     */
+    public static boolean isPatternMatch(CharSequence chars, Pattern pattern) {
+        if (chars != null && pattern != null) {
+            Matcher matcher = pattern.matcher(chars);
             return matcher.matches();
         }
         return false;
     }
 
+    /**
+     * Constraintの<code>regexp</code>、<code>flags</code>属性から正規表現をコンパイルする。
+     *
+     * @param regexp 正規表現
+     * @param flags フラグ
+     * @return コンパイル済み正規表現(正規表現が空文字列の場合は<code>null</code>)
+     */
+    public static Pattern compilePattern(String regexp,
+            javax.validation.constraints.Pattern.Flag... flags) {
+        if (regexp.isEmpty()) {
+            return null;
+        }
+        int value = 0;
+        for (javax.validation.constraints.Pattern.Flag flag : flags) {
+            value |= flag.getValue();
+        }
+        return Pattern.compile(regexp, value);
+    }
+
+    /**
+     * {@link #isPatternMatch(String, String)}で利用する正規表現キャッシュを取得する。
+     *
+     * @return 正規表現キャッシュ
+     */
+    public static BoundedCache<String, Pattern> getPatternCache() {
+        return PATTERN_CACHE;
+    }
+
     /**
      * 文字列真偽型チェック
      *
@@ -143,14 +529,17 @@ public final class Validators {
      * @return 真偽型の場合<code>true</code>
      */
     public static boolean isBoolean(String string) {
-        if (string != null) {
-            for (Boolean value : BOOLEAN_VALUES) {
-                if (value.toString().equals(string.toLowerCase())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return BOOLEAN_TOKENS.contains(string);
+    }
+
+    /**
+     * 文字列真偽型チェック
+     *
+     * @param chars 文字列
+     * @return 真偽型の場合<code>true</code>
+     */
+    public static boolean isBoolean(CharSequence chars) {
+        return BOOLEAN_TOKENS.contains(chars);
     }
 
     /**
@@ -160,29 +549,108 @@ public final class Validators {
      * @return yes/noの場合<code>true</code>
      */
     public static boolean isYesOrNo(String string) {
-        if (string != null) {
-            for (String value : YES_OR_NO_VALUES) {
-                if (value.toLowerCase().equals(string.toLowerCase())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return YES_OR_NO_TOKENS.contains(string);
+    }
+
+    /**
+     * yes/noチェック
+     *
+     * @param chars 文字列
+     * @return yes/noの場合<code>true</code>
+     */
+    public static boolean isYesOrNo(CharSequence chars) {
+        return YES_OR_NO_TOKENS.contains(chars);
+    }
+
+    /**
+     * 許容する文字列チェック
+     *
+     * @param string 文字列
+     * @param tokens 許容する文字列の集合
+     * @return いずれかと一致する場合<code>true</code>
+     */
+    public static boolean isToken(String string, TokenSet tokens) {
+        return tokens.contains(string);
+    }
+
+    /**
+     * 許容する文字列チェック
+     *
+     * @param chars 文字列
+     * @param tokens 許容する文字列の集合
+     * @return いずれかと一致する場合<code>true</code>
+     */
+    public static boolean isToken(CharSequence chars, TokenSet tokens) {
+        return tokens.contains(chars);
     }
 
 
     /**
      * Charset有効チェック
      *
+     * <p>
+     * 文字セット名は大文字小文字を区別しないため、英字(A～Z)だけを大文字に変換した名前ごとに結果をキャッシュする。
+     * 英字以外は変換しないため、大文字に変換すると有効な名前になる非ASCII文字(ı、ſなど)を含む名前は無効のままとする。
+     * 無効な名前の結果もキャッシュするため、同じ無効な名前で文字セットプロバイダーを繰り返し検索しない。
+     * </p>
+     *
      * @param string 文字列
      * @return 有効の場合<code>true</code>
      */
     public static boolean isCharsetSupported(String string) {
-        try {
-            return Charset.isSupported(string);
-        } catch (IllegalArgumentException e) {
+        if (string == null) {
+            return false;
+        }
+        return CHARSET_CACHE.get(toUpperCaseAscii(string)).booleanValue();
+    }
+
+    /**
+     * 英字(a～z)だけを大文字に変換する。
+     *
+     * @param string 文字列
+     * @return 変換した文字列(変換する文字がない場合は引数の文字列)
+     */
+    private static String toUpperCaseAscii(String string) {
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                final char[] chars = string.toCharArray();
+                for (int j = i; j < length; j++) {
+                    if (chars[j] >= 'a' && chars[j] <= 'z') {
+                        chars[j] -= 'a' - 'A';
+                    }
+                }
+                return new String(chars);
+            }
+        }
+        return string;
+    }
+
+    /**
+     * Charset有効チェック
+     *
+     * <p>
+     * キャッシュのキーとするため、文字セット名は{@link String}に変換する。
+     * </p>
+     *
+     * @param chars 文字列
+     * @return 有効の場合<code>true</code>
+     */
+    public static boolean isCharsetSupported(CharSequence chars) {
+        if (chars == null) {
             return false;
         }
+        return isCharsetSupported(chars.toString());
+    }
+
+    /**
+     * {@link #isCharsetSupported(String)}で利用する文字セットキャッシュを取得する。
+     *
+     * @return 文字セットキャッシュ
+     */
+    public static BoundedCache<String, Boolean> getCharsetCache() {
+        return CHARSET_CACHE;
     }
 
     /**
@@ -193,8 +661,19 @@ public final class Validators {
      * @return 日付フォーマットの場合<code>true</code>
      */
     public static boolean isDateFormat(String string, String pattern) {
-        if (string != null && pattern != null) {
-            return DateValidator.getInstance().validate(string, pattern) != null;
+        return isDateFormat((CharSequence) string, pattern);
+    }
+
+    /**
+     * 日付フォーマットチェック
+     *
+     * @param chars 文字列
+     * @param pattern 日付フォーマット
+     * @return 日付フォーマットの場合<code>true</code>
+     */
+    public static boolean isDateFormat(CharSequence chars, String pattern) {
+        if (chars != null && pattern != null) {
+            return DateFormatMatcher.getInstance(pattern).matches(chars);
         }
         return false;
     }
@@ -206,7 +685,20 @@ public final class Validators {
      * @return 半角カタカナの場合<code>true</code>
      */
     public static boolean isHalfKatakana(String string) {
-        return isPatternMatch(string, HALF_KATAKANA_REGEX);
+        return isHalfKatakana((CharSequence) string);
+    }
+
+    /**
+     * 半角カタカナチェック
+     *
+     * @param chars 文字列
+     * @return 半角カタカナの場合<code>true</code>
+     */
+    public static boolean isHalfKatakana(CharSequence chars) {
+        if (chars != null) {
+            return isCharRange(chars, HALF_KATAKANA_FIRST, HALF_KATAKANA_LAST, false, false, false);
+        }
+        return false;
     }
 
     /**
@@ -220,9 +712,22 @@ public final class Validators {
      */
     public static boolean isKatakana(String string, boolean space, boolean halfSpace,
             boolean longMarks) {
-        if (string != null) {
-            String check = removeMatcher(string, space, halfSpace, longMarks);
-            return isPatternMatch(check, KATAKANA_REGEX);
+        return isKatakana((CharSequence) string, space, halfSpace, longMarks);
+    }
+
+    /**
+     * 全角カタカナチェック
+     *
+     * @param chars 文字列
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return 全角カナの場合<code>true</code>
+     */
+    public static boolean isKatakana(CharSequence chars, boolean space, boolean halfSpace,
+            boolean longMarks) {
+        if (chars != null) {
+            return isCharRange(chars, KATAKANA_FIRST, KATAKANA_LAST, space, halfSpace, longMarks);
         }
         return false;
     }
@@ -238,38 +743,347 @@ public final class Validators {
      */
     public static boolean isHiragana(String string, boolean space, boolean halfSpace,
             boolean longMarks) {
-        if (string != null) {
-            String check = removeMatcher(string, space, halfSpace, longMarks);
-            return isPatternMatch(check, HIRAGANA_REGEX);
+        return isHiragana((CharSequence) string, space, halfSpace, longMarks);
+    }
+
+    /**
+     * ひらがなチェック
+     *
+     * @param chars 文字列
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return ひらがなの場合<code>true</code>
+     */
+    public static boolean isHiragana(CharSequence chars, boolean space, boolean halfSpace,
+            boolean longMarks) {
+        if (chars != null) {
+            return isCharRange(chars, HIRAGANA_FIRST, HIRAGANA_LAST, space, halfSpace, longMarks);
         }
         return false;
     }
 
     /**
-     * マッチする際に不要なスペース、長音の文字列を場合分けして除去する。
+     * 文字列が指定範囲の文字だけで構成されているかを1回の走査でチェックする。
      *
-     * @param string 文字列
-     * @param space 全角スペースを取り除く
-     * @param halfSpace 半角スペースを取り除く
-     * @param longMarks 長音を取り除く
-     * @return 除去結果の文字列
+     * <p>
+     * 許容するスペース、長音は読み飛ばし、それ以外の文字が1文字以上あることを条件とする。
+     * </p>
+     *
+     * @param chars 文字列
+     * @param first 範囲(開始)
+     * @param last 範囲(終了)
+     * @param space 全角スペースを読み飛ばす
+     * @param halfSpace 半角スペースを読み飛ばす
+     * @param longMarks 長音を読み飛ばす
+     * @return 範囲の文字だけで構成されている場合<code>true</code>
      */
-    private static String removeMatcher(String string, boolean space, boolean halfSpace,
-            boolean longMarks) {
-        String check = string;
-        if (space) {
-            // 全角スペースは取り除く
-            check = replace(check, EM_SPACE, EMPTY);
+    private static boolean isCharRange(CharSequence chars, char first, char last, boolean space,
+            boolean halfSpace, boolean longMarks) {
+        boolean found = false;
+        final int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if ((space && c == EM_SPACE) || (halfSpace && c == SPACE)
+                    || (longMarks && c == EM_LONG_MARKS)) {
+                continue;
+            }
+            if (c < first || c > last) {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    /**
+     * 半角数値型文字列の形式チェック(バイト列)
+     *
+     * <p>
+     * ASCII互換の文字エンコーディング({@link ByteEncoding}のすべて)のバイト列をデコードせずにチェックする。
+     * </p>
+     *
+     * @param bytes バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @return 半角数値型文字列(空を含む)の場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバイト列の外の場合
+     */
+    public static boolean isHalfNumber(byte[] bytes, int offset, int length)
+            throws IndexOutOfBoundsException {
+        return bytes != null && isHalfNumber(ByteBuffer.wrap(bytes), offset, length);
+    }
+
+    /**
+     * 半角数値型文字列の形式チェック(バイト列)
+     *
+     * <p>
+     * 範囲はバッファの先頭からの絶対位置で指定し、バッファのpositionとlimitは変更しない。
+     * {@link java.nio.MappedByteBuffer}上の固定長レコードをそのままチェックできる。
+     * </p>
+     *
+     * @param buffer バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @return 半角数値型文字列(空を含む)の場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバッファのlimitの外の場合
+     */
+    public static boolean isHalfNumber(ByteBuffer buffer, int offset, int length)
+            throws IndexOutOfBoundsException {
+        if (buffer == null) {
+            return false;
+        }
+        checkRange(buffer, offset, length);
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            final byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 半角カタカナチェック(バイト列)
+     *
+     * @param bytes バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @return 半角カタカナの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバイト列の外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isHalfKatakana(byte[] bytes, int offset, int length,
+            ByteEncoding encoding) throws IndexOutOfBoundsException {
+        return isHalfKatakana(bytes, offset, length, encoding, false);
+    }
+
+    /**
+     * 半角カタカナチェック(バイト列)
+     *
+     * @param bytes バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @param halfSpace 半角スペースを許容する。
+     * @return 半角カタカナの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバイト列の外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isHalfKatakana(byte[] bytes, int offset, int length,
+            ByteEncoding encoding, boolean halfSpace) throws IndexOutOfBoundsException {
+        return bytes != null && isHalfKatakana(ByteBuffer.wrap(bytes), offset, length, encoding,
+                halfSpace);
+    }
+
+    /**
+     * 半角カタカナチェック(バイト列)
+     *
+     * <p>
+     * 範囲はバッファの先頭からの絶対位置で指定し、バッファのpositionとlimitは変更しない。
+     * </p>
+     *
+     * @param buffer バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @return 半角カタカナの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバッファのlimitの外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isHalfKatakana(ByteBuffer buffer, int offset, int length,
+            ByteEncoding encoding) throws IndexOutOfBoundsException {
+        return isHalfKatakana(buffer, offset, length, encoding, false);
+    }
+
+    /**
+     * 半角カタカナチェック(バイト列)
+     *
+     * <p>
+     * 範囲はバッファの先頭からの絶対位置で指定し、バッファのpositionとlimitは変更しない。
+     * 半角スペースを許容する場合は、半角スペース以外の文字が1文字以上あることを条件とする。
+     * </p>
+     *
+     * @param buffer バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @param halfSpace 半角スペースを許容する。
+     * @return 半角カタカナの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバッファのlimitの外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isHalfKatakana(ByteBuffer buffer, int offset, int length,
+            ByteEncoding encoding, boolean halfSpace) throws IndexOutOfBoundsException {
+        if (buffer != null) {
+            return isCharRange(buffer, offset, length, encoding, HALF_KATAKANA_FIRST,
+                    HALF_KATAKANA_LAST, false, halfSpace, false);
+        }
+        return false;
+    }
+
+    /**
+     * 全角カタカナチェック(バイト列)
+     *
+     * @param bytes バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return 全角カナの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバイト列の外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isKatakana(byte[] bytes, int offset, int length, ByteEncoding encoding,
+            boolean space, boolean halfSpace, boolean longMarks) throws IndexOutOfBoundsException {
+        return bytes != null && isKatakana(ByteBuffer.wrap(bytes), offset, length, encoding, space,
+                halfSpace, longMarks);
+    }
+
+    /**
+     * 全角カタカナチェック(バイト列)
+     *
+     * <p>
+     * 範囲はバッファの先頭からの絶対位置で指定し、バッファのpositionとlimitは変更しない。
+     * </p>
+     *
+     * @param buffer バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return 全角カナの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバッファのlimitの外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isKatakana(ByteBuffer buffer, int offset, int length,
+            ByteEncoding encoding, boolean space, boolean halfSpace, boolean longMarks)
+            throws IndexOutOfBoundsException {
+        if (buffer != null) {
+            return isCharRange(buffer, offset, length, encoding, KATAKANA_FIRST, KATAKANA_LAST,
+                    space, halfSpace, longMarks);
+        }
+        return false;
+    }
+
+    /**
+     * ひらがなチェック(バイト列)
+     *
+     * @param bytes バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return ひらがなの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバイト列の外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isHiragana(byte[] bytes, int offset, int length, ByteEncoding encoding,
+            boolean space, boolean halfSpace, boolean longMarks) throws IndexOutOfBoundsException {
+        return bytes != null && isHiragana(ByteBuffer.wrap(bytes), offset, length, encoding, space,
+                halfSpace, longMarks);
+    }
+
+    /**
+     * ひらがなチェック(バイト列)
+     *
+     * <p>
+     * 範囲はバッファの先頭からの絶対位置で指定し、バッファのpositionとlimitは変更しない。
+     * </p>
+     *
+     * @param buffer バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return ひらがなの場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバッファのlimitの外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    public static boolean isHiragana(ByteBuffer buffer, int offset, int length,
+            ByteEncoding encoding, boolean space, boolean halfSpace, boolean longMarks)
+            throws IndexOutOfBoundsException {
+        if (buffer != null) {
+            return isCharRange(buffer, offset, length, encoding, HIRAGANA_FIRST, HIRAGANA_LAST,
+                    space, halfSpace, longMarks);
+        }
+        return false;
+    }
+
+    /**
+     * バイト列が指定範囲の文字だけで構成されているかを1回の走査でチェックする。
+     *
+     * <p>
+     * {@link #isCharRange(CharSequence, char, char, boolean, boolean, boolean)}のバイト列版で、
+     * 不正なバイト列(範囲の終端で途切れた文字を含む)はエラーとする。
+     * </p>
+     *
+     * @param buffer バイト列
+     * @param offset チェックする範囲の開始位置
+     * @param length チェックする範囲のバイト数
+     * @param encoding 文字エンコーディング
+     * @param first 範囲(開始)
+     * @param last 範囲(終了)
+     * @param space 全角スペースを読み飛ばす
+     * @param halfSpace 半角スペースを読み飛ばす
+     * @param longMarks 長音を読み飛ばす
+     * @return 範囲の文字だけで構成されている場合<code>true</code>
+     * @throws IndexOutOfBoundsException 範囲がバッファのlimitの外の場合
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    private static boolean isCharRange(ByteBuffer buffer, int offset, int length,
+            ByteEncoding encoding, char first, char last, boolean space, boolean halfSpace,
+            boolean longMarks) throws IndexOutOfBoundsException {
+        if (encoding == null) {
+            throw new IllegalArgumentException("encoding is null");
         }
-        if (halfSpace) {
-            // 半角スペースは取り除く
-            check = replace(check, SPACE, EMPTY);
+        checkRange(buffer, offset, length);
+        boolean found = false;
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            final int decoded = encoding.decode(buffer, i, end);
+            if (decoded == ByteEncoding.INVALID) {
+                return false;
+            }
+            i += ByteEncoding.length(decoded);
+            final int c = ByteEncoding.codePoint(decoded);
+            if ((space && c == EM_SPACE) || (halfSpace && c == SPACE)
+                    || (longMarks && c == EM_LONG_MARKS)) {
+                continue;
+            }
+            if (c < first || c > last) {
+                return false;
+            }
+            found = true;
         }
-        if (longMarks) {
-            // 長音を取り除く
-            check = replace(check, EM_LONG_MARKS, EMPTY);
+        return found;
+    }
+
+    /**
+     * バイト列の範囲をチェックする。
+     *
+     * @param buffer バイト列
+     * @param offset 開始位置
+     * @param length バイト数
+     * @throws IndexOutOfBoundsException 範囲がバッファのlimitの外の場合
+     */
+    private static void checkRange(ByteBuffer buffer, int offset, int length)
+            throws IndexOutOfBoundsException {
+        if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length
+                    + ", limit: " + buffer.limit());
         }
-        return check;
     }
 
 }
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.validation.ValidationException;
+
+/**
+ * 郵便番号の存在チェックに利用するインデックス
+ *
+ * <p>
+ * 7桁の郵便番号(0000000～9999999)ごとに1ビットを割り当てたビットセット(約1.25MB)で保持し、
+ * 定数時間で存在を判定する。
+ * インデックスは日本郵便の郵便番号データ(KEN_ALL.CSV)から作成し、ファイルに書き出したものは
+ * メモリマップドファイルとして読み込む。不変のためスレッドセーフである。
+ * </p>
+ *
+ * <p>
+ * {@code @ZipCode(exists = true)}は{@link #getDefault()}のインデックスを利用する。
+ * {@link #setDefault(ZipCodeIndex)}で設定するか、システムプロパティ
+ * {@value #DEFAULT_PATH_PROPERTY}にインデックスファイルまたはKEN_ALL.CSVのパスを指定する。
+ * {@code ConstraintValidator}は初期化時のインデックスを保持するため、最初のValidationより前に設定すること。
+ * </p>
+ */
+public final class ZipCodeIndex {
+
+    /** デフォルトのインデックスのパスを指定するシステムプロパティ */
+    public static final String DEFAULT_PATH_PROPERTY = "com.github.nakamurakj.validator.zipCodeIndex";
+
+    /** KEN_ALL.CSVの文字セット */
+    public static final Charset KEN_ALL_CHARSET = Charset.forName("Windows-31J");
+
+    /** 郵便番号の数 */
+    private static final int CODE_COUNT = 10000000;
+
+    /** 郵便番号の桁数 */
+    private static final int CODE_LENGTH = 7;
+
+    /** KEN_ALL.CSVの郵便番号の列(0始まり) */
+    private static final int KEN_ALL_CODE_COLUMN = 2;
+
+    /** インデックスファイルの識別子 */
+    private static final byte[] MAGIC = {'Z', 'I', 'P', 'I', 'D', 'X', '0', '1'};
+
+    /** ビットセットのバイト数 */
+    private static final int BITSET_SIZE = CODE_COUNT / 8;
+
+    /** デフォルトのインデックス */
+    private static volatile ZipCodeIndex defaultIndex;
+
+    /** ビットセット(絶対位置でのみ参照する) */
+    private final ByteBuffer bits;
+
+    /** 登録されている郵便番号の数 */
+    private final int size;
+
+    /**
+     * コンストラクタ
+     *
+     * @param bits ビットセット
+     */
+    private ZipCodeIndex(final ByteBuffer bits) {
+        this.bits = bits;
+        int count = 0;
+        for (int i = 0; i < BITSET_SIZE; i++) {
+            count += Integer.bitCount(bits.get(i) & 0xff);
+        }
+        this.size = count;
+    }
+
+    /**
+     * KEN_ALL.CSV形式のファイルからインデックスを作成する。
+     *
+     * @param file KEN_ALL.CSV(Windows-31J)
+     * @return インデックス
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public static ZipCodeIndex fromKenAll(final File file) throws IOException {
+        final InputStream in = new FileInputStream(file);
+        try {
+            return fromKenAll(in, KEN_ALL_CHARSET);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * KEN_ALL.CSV形式のデータからインデックスを作成する。
+     *
+     * <p>
+     * 3列目の7桁の郵便番号を登録する。郵便番号の形式でない行は無視する。
+     * </p>
+     *
+     * @param in KEN_ALL.CSV形式のデータ(クローズは呼び出し元で行うこと)
+     * @param charset 文字セット
+     * @return インデックス
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public static ZipCodeIndex fromKenAll(final InputStream in, final Charset charset)
+            throws IOException {
+        final byte[] bitset = new byte[BITSET_SIZE];
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final int code = parseColumn(line, KEN_ALL_CODE_COLUMN);
+            if (code >= 0) {
+                bitset[code >>> 3] |= 1 << (code & 7);
+            }
+        }
+        return new ZipCodeIndex(ByteBuffer.wrap(bitset));
+    }
+
+    /**
+     * CSVの列の郵便番号を取得する。
+     *
+     * @param line CSVの行
+     * @param column 列(0始まり)
+     * @return 郵便番号(形式が不正な場合は-1)
+     */
+    private static int parseColumn(final String line, final int column) {
+        int start = 0;
+        for (int i = 0; i < column; i++) {
+            start = line.indexOf(',', start) + 1;
+            if (start == 0) {
+                return -1;
+            }
+        }
+        int end = line.indexOf(',', start);
+        if (end < 0) {
+            end = line.length();
+        }
+        if (end - start >= 2 && line.charAt(start) == '"' && line.charAt(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        return end - start == CODE_LENGTH ? toCode(line.subSequence(start, end)) : -1;
+    }
+
+    /**
+     * {@link #write(File)}で書き出したインデックスファイルをメモリマップドファイルとして読み込む。
+     *
+     * @param file インデックスファイル
+     * @return インデックス
+     * @throws IOException 読み込みに失敗した場合、インデックスファイルの形式が不正な場合
+     */
+    public static ZipCodeIndex load(final File file) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            if (channel.size() != MAGIC.length + BITSET_SIZE) {
+                throw new IOException("invalid zip code index: " + file);
+            }
+            final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final byte[] magic = new byte[MAGIC.length];
+            mapped.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("invalid zip code index: " + file);
+            }
+            return new ZipCodeIndex(mapped.slice());
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * インデックスをファイルに書き出す。
+     *
+     * @param file インデックスファイル
+     * @throws IOException 書き込みに失敗した場合
+     */
+    public void write(final File file) throws IOException {
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            final FileChannel channel = out.getChannel();
+            channel.write(ByteBuffer.wrap(MAGIC));
+            final ByteBuffer view = bits.duplicate();
+            view.clear();
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * 郵便番号が存在するかを判定する。
+     *
+     * @param code 郵便番号(0～9999999)
+     * @return 存在する場合<code>true</code>(範囲外の場合は<code>false</code>)
+     */
+    public boolean contains(final int code) {
+        if (code < 0 || code >= CODE_COUNT) {
+            return false;
+        }
+        return (bits.get(code >>> 3) & (1 << (code & 7))) != 0;
+    }
+
+    /**
+     * 郵便番号が存在するかを判定する。
+     *
+     * <p>
+     * 7桁の数字で、4桁目の前にハイフンを含んでもよい。全角数字、全角ハイフンも受け付ける。
+     * </p>
+     *
+     * @param zip 郵便番号
+     * @return 存在する場合<code>true</code>(形式が不正な場合は<code>false</code>)
+     */
+    public boolean contains(final CharSequence zip) {
+        return zip != null && contains(toCode(zip));
+    }
+
+    /**
+     * 登録されている郵便番号の数を取得する。
+     *
+     * @return 郵便番号の数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 郵便番号を数値に変換する。
+     *
+     * @param zip 郵便番号
+     * @return 数値(形式が不正な場合は-1)
+     */
+    private static int toCode(final CharSequence zip) {
+        final int length = zip.length();
+        if (length != CODE_LENGTH && length != CODE_LENGTH + 1) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = zip.charAt(i);
+            if (length != CODE_LENGTH && i == 3) {
+                if (c != '-' && c != '\uFF0D') {
+                    return -1;
+                }
+                continue;
+            }
+            final int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= '\uFF10' && c <= '\uFF19') {
+                digit = c - '\uFF10';
+            } else {
+                return -1;
+            }
+            code = code * 10 + digit;
+        }
+        return code;
+    }
+
+    /**
+     * デフォルトのインデックスを設定する。
+     *
+     * @param index インデックス(<code>null</code>の場合は解除する)
+     */
+    public static void setDefault(final ZipCodeIndex index) {
+        defaultIndex = index;
+    }
+
+    /**
+     * デフォルトのインデックスを取得する。
+     *
+     * <p>
+     * 設定されていない場合は、システムプロパティ{@value #DEFAULT_PATH_PROPERTY}のファイルから読み込む。
+     * 拡張子が.csvのファイルはKEN_ALL.CSVとして、それ以外はインデックスファイルとして読み込む。
+     * </p>
+     *
+     * @return インデックス(設定されていない場合は<code>null</code>)
+     * @throws ValidationException システムプロパティのファイルの読み込みに失敗した場合
+     */
+    public static ZipCodeIndex getDefault() throws ValidationException {
+        final ZipCodeIndex index = defaultIndex;
+        if (index != null) {
+            return index;
+        }
+        final String path = System.getProperty(DEFAULT_PATH_PROPERTY);
+        if (path == null) {
+            return null;
+        }
+        synchronized (ZipCodeIndex.class) {
+            if (defaultIndex == null) {
+                final File file = new File(path);
+                try {
+                    final boolean csv = path.toLowerCase(Locale.ENGLISH).endsWith(".csv");
+                    defaultIndex = csv ? fromKenAll(file) : load(file);
+                } catch (final IOException e) {
+                    throw new ValidationException("failed to load zip code index: " + path, e);
+                }
+            }
+            return defaultIndex;
+        }
+    }
+
+    /**
+     * デフォルトのインデックスを取得する。
+     *
+     * @return インデックス
+     * @throws ValidationException インデックスが設定されていない場合
+     * @see #getDefault()
+     */
+    public static ZipCodeIndex requireDefault() throws ValidationException {
+        final ZipCodeIndex index = getDefault();
+        if (index == null) {
+            throw new ValidationException("zip code index is not loaded: "
+                    + "call ZipCodeIndex.setDefault or set " + DEFAULT_PATH_PROPERTY);
+        }
+        return index;
+    }
+
+}
@@ -45,4 +45,10 @@ public @interface BooleanString {
 
     Class<? extends Payload>[] payload() default {};
 
+    /** 許容する文字列(例: <code>{"1", "0"}</code>、<code>{"はい", "いいえ"}</code>) */
+    String[] values() default {"true", "false"};
+
+    /** 大文字小文字を区別しないか。 */
+    boolean ignoreCase() default true;
+
 }
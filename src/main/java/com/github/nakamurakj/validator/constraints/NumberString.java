@@ -48,4 +48,7 @@ public @interface NumberString {
     int min() default 1;
 
     int max() default 10;
+
+    /** <code>long</code>の範囲を超える桁数(20桁以上)を許容するか。 */
+    boolean arbitraryLength() default false;
 }
\ No newline at end of file
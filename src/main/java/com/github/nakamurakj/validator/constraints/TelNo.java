@@ -26,6 +26,7 @@ import java.lang.annotation.Target;
 import javax.validation.Constraint;
 import javax.validation.Payload;
 import javax.validation.ReportAsSingleViolation;
+import javax.validation.constraints.Pattern;
 
 import com.github.nakamurakj.validator.constraintsvalidaor.TelNoValidator;
 
@@ -43,4 +44,17 @@ public @interface TelNo {
     Class<?>[] groups() default {};
 
     Class<? extends Payload>[] payload() default {};
+
+    /**
+     * 番号体系(市外局番と市内局番の桁数)に合っているかをチェックするか。
+     * {@link com.github.nakamurakj.validator.TelNoPlan#getDefault()}の番号体系を利用し、
+     * ハイフンなし(0312345678)の電話番号も許容する。
+     */
+    boolean areaCode() default false;
+
+    /** 正規表現(指定した場合は<code>areaCode</code>より優先する)。 */
+    String regexp() default "";
+
+    /** 正規表現のフラグ。 */
+    Pattern.Flag[] flags() default {};
 }
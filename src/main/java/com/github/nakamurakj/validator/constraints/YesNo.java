@@ -45,4 +45,10 @@ public @interface YesNo {
 
     Class<? extends Payload>[] payload() default {};
 
+    /** 許容する文字列(例: <code>{"1", "0"}</code>、<code>{"はい", "いいえ"}</code>) */
+    String[] values() default {"yes", "no"};
+
+    /** 大文字小文字を区別しないか。 */
+    boolean ignoreCase() default true;
+
 }
\ No newline at end of file
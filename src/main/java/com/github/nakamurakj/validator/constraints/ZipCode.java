@@ -26,6 +26,7 @@ import java.lang.annotation.Target;
 import javax.validation.Constraint;
 import javax.validation.Payload;
 import javax.validation.ReportAsSingleViolation;
+import javax.validation.constraints.Pattern;
 
 import com.github.nakamurakj.validator.constraintsvalidaor.ZipCodeValidator;
 
@@ -43,4 +44,34 @@ public @interface ZipCode {
     Class<?>[] groups() default {};
 
     Class<? extends Payload>[] payload() default {};
+
+    /** ハイフンの扱い。 */
+    Hyphen hyphen() default Hyphen.REQUIRED;
+
+    /** 全角数字(０～９)、全角ハイフン(－)を許容するか。 */
+    boolean fullWidth() default false;
+
+    /** 正規表現(指定した場合は<code>hyphen</code>、<code>fullWidth</code>より優先する)。 */
+    String regexp() default "";
+
+    /** 正規表現のフラグ。 */
+    Pattern.Flag[] flags() default {};
+
+    /**
+     * 郵便番号が存在するかをチェックするか。
+     * {@link com.github.nakamurakj.validator.ZipCodeIndex#getDefault()}のインデックスを利用する。
+     */
+    boolean exists() default false;
+
+    /**
+     * 郵便番号のハイフンの扱い
+     */
+    enum Hyphen {
+        /** ハイフンあり(123-4567)、なし(1234567)のどちらも許容する。 */
+        OPTIONAL,
+        /** ハイフンあり(123-4567)のみ許容する。 */
+        REQUIRED,
+        /** ハイフンなし(1234567)のみ許容する。 */
+        FORBIDDEN
+    }
 }
@@ -21,6 +21,7 @@ import static com.github.nakamurakj.validator.Validators.*;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
+import com.github.nakamurakj.validator.TokenSet;
 import com.github.nakamurakj.validator.constraints.BooleanString;
 
 /**
@@ -28,11 +29,16 @@ import com.github.nakamurakj.validator.constraints.BooleanString;
  */
 public class BooleanStringValidator implements ConstraintValidator<BooleanString, String> {
 
+    /** 許容する文字列 */
+    private TokenSet tokens;
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public void initialize(BooleanString constraint) {}
+    public void initialize(BooleanString constraint) {
+        tokens = new TokenSet(constraint.values(), constraint.ignoreCase());
+    }
 
     /**
      * {@inheritDoc}
@@ -42,6 +48,6 @@ public class BooleanStringValidator implements ConstraintValidator<BooleanString
         if (value == null) {
             return true;
         }
-        return isBoolean(value);
+        return isToken(value, tokens);
     }
 }
\ No newline at end of file
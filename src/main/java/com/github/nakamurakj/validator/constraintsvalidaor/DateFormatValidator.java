@@ -19,7 +19,7 @@ package com.github.nakamurakj.validator.constraintsvalidaor;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
-import com.github.nakamurakj.validator.Validators;
+import com.github.nakamurakj.validator.DateFormatMatcher;
 import com.github.nakamurakj.validator.constraints.DateFormat;
 
 /**
@@ -27,14 +27,14 @@ import com.github.nakamurakj.validator.constraints.DateFormat;
  */
 public class DateFormatValidator implements ConstraintValidator<DateFormat, String> {
 
-    /** プロファイル種別 */
-    private String pattern;
+    /** 日付フォーマットのチェック */
+    private DateFormatMatcher matcher;
 
     /**
      * {@inheritDoc}
      */
     public void initialize(DateFormat constraint) {
-        this.pattern = constraint.value();
+        this.matcher = DateFormatMatcher.getInstance(constraint.value());
     }
 
     /**
@@ -44,7 +44,7 @@ public class DateFormatValidator implements ConstraintValidator<DateFormat, Stri
         if (value == null) {
             return true;
         }
-        return Validators.isDateFormat(value, pattern);
+        return matcher.matches(value);
     }
 
 }
\ No newline at end of file
@@ -32,6 +32,8 @@ public class NumberStringValidator implements ConstraintValidator<NumberString,
     private int min;
     /** 最大値 */
     private int max;
+    /** <code>long</code>の範囲を超える桁数を許容するか。 */
+    private boolean arbitraryLength;
 
     /**
      * {@inheritDoc}
@@ -39,6 +41,7 @@ public class NumberStringValidator implements ConstraintValidator<NumberString,
     public void initialize(NumberString constraint) {
         this.min = constraint.min();
         this.max = constraint.max();
+        this.arbitraryLength = constraint.arbitraryLength();
     }
 
     /**
@@ -48,7 +51,7 @@ public class NumberStringValidator implements ConstraintValidator<NumberString,
         if (object == null) {
             return true;
         }
-        return isNumberString(object, min, max);
+        return isNumberString(object, min, max, arbitraryLength);
     }
 
 }
\ No newline at end of file
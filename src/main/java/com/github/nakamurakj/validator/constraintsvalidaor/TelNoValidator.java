@@ -16,9 +16,12 @@
  */
 package com.github.nakamurakj.validator.constraintsvalidaor;
 
+import java.util.regex.Pattern;
+
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
+import com.github.nakamurakj.validator.TelNoPlan;
 import com.github.nakamurakj.validator.Validators;
 import com.github.nakamurakj.validator.constraints.TelNo;
 
@@ -27,11 +30,20 @@ import com.github.nakamurakj.validator.constraints.TelNo;
  */
 public class TelNoValidator implements ConstraintValidator<TelNo, String> {
 
+    /** 番号体系をチェックするか */
+    private boolean areaCode;
+
+    /** コンパイル済み正規表現(指定がない場合は<code>null</code>) */
+    private Pattern pattern;
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public void initialize(TelNo constraint) {}
+    public void initialize(TelNo constraint) {
+        areaCode = constraint.areaCode();
+        pattern = Validators.compilePattern(constraint.regexp(), constraint.flags());
+    }
 
     /**
      * {@inheritDoc}
@@ -41,6 +53,12 @@ public class TelNoValidator implements ConstraintValidator<TelNo, String> {
         if (value == null) {
             return true;
         }
+        if (pattern != null) {
+            return Validators.isPatternMatch(value, pattern);
+        }
+        if (areaCode) {
+            return TelNoPlan.getDefault().matches(value);
+        }
         return Validators.isTelNo(value, null);
     }
 }
\ No newline at end of file
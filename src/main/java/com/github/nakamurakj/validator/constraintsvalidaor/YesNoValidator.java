@@ -21,6 +21,7 @@ import static com.github.nakamurakj.validator.Validators.*;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
+import com.github.nakamurakj.validator.TokenSet;
 import com.github.nakamurakj.validator.constraints.YesNo;
 
 /**
@@ -28,11 +29,16 @@ import com.github.nakamurakj.validator.constraints.YesNo;
  */
 public class YesNoValidator implements ConstraintValidator<YesNo, String> {
 
+    /** 許容する文字列 */
+    private TokenSet tokens;
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public void initialize(YesNo constraint) {}
+    public void initialize(YesNo constraint) {
+        tokens = new TokenSet(constraint.values(), constraint.ignoreCase());
+    }
 
     /**
      * {@inheritDoc}
@@ -42,6 +48,6 @@ public class YesNoValidator implements ConstraintValidator<YesNo, String> {
         if (value == null) {
             return true;
         }
-        return isYesOrNo(value);
+        return isToken(value, tokens);
     }
 }
\ No newline at end of file
@@ -18,9 +18,12 @@ package com.github.nakamurakj.validator.constraintsvalidaor;
 
 import static com.github.nakamurakj.validator.Validators.*;
 
+import java.util.regex.Pattern;
+
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
+import com.github.nakamurakj.validator.ZipCodeIndex;
 import com.github.nakamurakj.validator.constraints.ZipCode;
 
 /**
@@ -28,11 +31,34 @@ import com.github.nakamurakj.validator.constraints.ZipCode;
  */
 public class ZipCodeValidator implements ConstraintValidator<ZipCode, String> {
 
+    /** ハイフンあり(123-4567)を許容するか。 */
+    private boolean hyphen;
+    /** ハイフンなし(1234567)を許容するか。 */
+    private boolean noHyphen;
+    /** 全角数字、全角ハイフンを許容するか。 */
+    private boolean fullWidth;
+    /** コンパイル済み正規表現(指定がない場合は<code>null</code>) */
+    private Pattern pattern;
+    /** 存在チェックに利用するインデックス(存在チェックを行わない場合は<code>null</code>) */
+    private ZipCodeIndex index;
+
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * 存在チェックを行う場合は、この時点の{@link ZipCodeIndex#requireDefault()}を利用する。
+     * </p>
+     *
+     * @throws javax.validation.ValidationException 存在チェックを行う場合にインデックスが読み込めない場合
      */
     @Override
-    public void initialize(ZipCode constraint) {}
+    public void initialize(ZipCode constraint) {
+        hyphen = constraint.hyphen() != ZipCode.Hyphen.FORBIDDEN;
+        noHyphen = constraint.hyphen() != ZipCode.Hyphen.REQUIRED;
+        fullWidth = constraint.fullWidth();
+        pattern = compilePattern(constraint.regexp(), constraint.flags());
+        index = constraint.exists() ? ZipCodeIndex.requireDefault() : null;
+    }
 
     /**
      * {@inheritDoc}
@@ -42,6 +68,12 @@ public class ZipCodeValidator implements ConstraintValidator<ZipCode, String> {
         if (value == null) {
             return true;
         }
-        return isZipCode(value, null);
+        final boolean valid;
+        if (pattern != null) {
+            valid = isPatternMatch(value, pattern);
+        } else {
+            valid = isZipCode(value, hyphen, noHyphen, fullWidth);
+        }
+        return valid && (index == null || index.contains(value));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.file;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 固定長レコードの項目のチェック
+ *
+ * <p>
+ * 複数のスレッドから同時に呼び出されるため、スレッドセーフに実装すること。
+ * </p>
+ *
+ * @see FieldChecks
+ */
+public interface FieldCheck {
+
+    /**
+     * 項目をチェックする。
+     *
+     * <p>
+     * 範囲はバッファの先頭からの絶対位置で、バッファのpositionとlimitは変更しないこと。
+     * </p>
+     *
+     * @param buffer レコードを含むバッファ
+     * @param offset 項目の開始位置
+     * @param length 項目のバイト数
+     * @return 正しい場合<code>true</code>
+     */
+    boolean isValid(ByteBuffer buffer, int offset, int length);
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.file;
+
+import java.nio.ByteBuffer;
+
+import com.github.nakamurakj.validator.ByteEncoding;
+import com.github.nakamurakj.validator.Validators;
+
+/**
+ * {@link Validators}のバイト列版のチェックを利用する{@link FieldCheck}
+ */
+public final class FieldChecks {
+
+    /** 半角スペース */
+    private static final byte SPACE = ' ';
+
+    /** 半角数値 */
+    private static final FieldCheck HALF_NUMBER = new FieldCheck() {
+        @Override
+        public boolean isValid(final ByteBuffer buffer, final int offset, final int length) {
+            return Validators.isHalfNumber(buffer, offset, length);
+        }
+    };
+
+    /**
+     * private constractors
+     */
+    private FieldChecks() {
+        // ignore
+    }
+
+    /**
+     * 半角数値のチェックを取得する。
+     *
+     * @return チェック
+     * @see Validators#isHalfNumber(ByteBuffer, int, int)
+     */
+    public static FieldCheck halfNumber() {
+        return HALF_NUMBER;
+    }
+
+    /**
+     * 半角カタカナのチェックを作成する。
+     *
+     * @param encoding 文字エンコーディング
+     * @return チェック
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     * @see Validators#isHalfKatakana(ByteBuffer, int, int, ByteEncoding)
+     */
+    public static FieldCheck halfKatakana(final ByteEncoding encoding)
+            throws IllegalArgumentException {
+        return halfKatakana(encoding, false);
+    }
+
+    /**
+     * 半角カタカナのチェックを作成する。
+     *
+     * <p>
+     * <code>halfSpace</code>が<code>true</code>の場合は、"ﾔﾏﾀﾞ ﾀﾛｳ"のように
+     * 姓と名を半角スペースで区切った項目を許容する。
+     * </p>
+     *
+     * @param encoding 文字エンコーディング
+     * @param halfSpace 半角スペースを許容する。
+     * @return チェック
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     * @see Validators#isHalfKatakana(ByteBuffer, int, int, ByteEncoding, boolean)
+     */
+    public static FieldCheck halfKatakana(final ByteEncoding encoding, final boolean halfSpace)
+            throws IllegalArgumentException {
+        checkEncoding(encoding);
+        return new FieldCheck() {
+            @Override
+            public boolean isValid(final ByteBuffer buffer, final int offset, final int length) {
+                return Validators.isHalfKatakana(buffer, offset, length, encoding, halfSpace);
+            }
+        };
+    }
+
+    /**
+     * 全角カタカナのチェックを作成する。
+     *
+     * @param encoding 文字エンコーディング
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return チェック
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     * @see Validators#isKatakana(ByteBuffer, int, int, ByteEncoding, boolean, boolean, boolean)
+     */
+    public static FieldCheck katakana(final ByteEncoding encoding, final boolean space,
+            final boolean halfSpace, final boolean longMarks) throws IllegalArgumentException {
+        checkEncoding(encoding);
+        return new FieldCheck() {
+            @Override
+            public boolean isValid(final ByteBuffer buffer, final int offset, final int length) {
+                return Validators.isKatakana(buffer, offset, length, encoding, space, halfSpace,
+                        longMarks);
+            }
+        };
+    }
+
+    /**
+     * ひらがなのチェックを作成する。
+     *
+     * @param encoding 文字エンコーディング
+     * @param space スペース("　")を許容する。
+     * @param halfSpace 半角スペースを許容する。
+     * @param longMarks 長音("ー")を許容する。
+     * @return チェック
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     * @see Validators#isHiragana(ByteBuffer, int, int, ByteEncoding, boolean, boolean, boolean)
+     */
+    public static FieldCheck hiragana(final ByteEncoding encoding, final boolean space,
+            final boolean halfSpace, final boolean longMarks) throws IllegalArgumentException {
+        checkEncoding(encoding);
+        return new FieldCheck() {
+            @Override
+            public boolean isValid(final ByteBuffer buffer, final int offset, final int length) {
+                return Validators.isHiragana(buffer, offset, length, encoding, space, halfSpace,
+                        longMarks);
+            }
+        };
+    }
+
+    /**
+     * 末尾の半角スペース(埋め文字)を除いてチェックするチェックを作成する。
+     *
+     * <p>
+     * すべて半角スペースの項目は元のチェックを実行せず、
+     * <code>blank</code>が<code>true</code>の場合は正しい項目、<code>false</code>の場合はエラーとする。
+     * ({@link #halfNumber()}のように長さ0を許容するチェックでも空欄をエラーにできる)
+     * </p>
+     *
+     * @param check 末尾の半角スペースを除いた範囲のチェック
+     * @param blank すべて半角スペースの項目を許容する場合<code>true</code>
+     * @return チェック
+     * @throws IllegalArgumentException チェックが<code>null</code>の場合
+     */
+    public static FieldCheck trimRight(final FieldCheck check, final boolean blank)
+            throws IllegalArgumentException {
+        if (check == null) {
+            throw new IllegalArgumentException("check is null");
+        }
+        return new FieldCheck() {
+            @Override
+            public boolean isValid(final ByteBuffer buffer, final int offset, final int length) {
+                int end = offset + length;
+                while (end > offset && buffer.get(end - 1) == SPACE) {
+                    end--;
+                }
+                if (end == offset) {
+                    return blank;
+                }
+                return check.isValid(buffer, offset, end - offset);
+            }
+        };
+    }
+
+    /**
+     * 文字エンコーディングをチェックする。
+     *
+     * @param encoding 文字エンコーディング
+     * @throws IllegalArgumentException 文字エンコーディングが<code>null</code>の場合
+     */
+    private static void checkEncoding(final ByteEncoding encoding)
+            throws IllegalArgumentException {
+        if (encoding == null) {
+            throw new IllegalArgumentException("encoding is null");
+        }
+    }
+
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.validation.ValidationException;
+
+/**
+ * 固定長レコードのファイルのValidationを行うクラス
+ *
+ * <p>
+ * ファイルをレコード境界で分割して{@link FileChannel#map}でメモリマップし、
+ * レコードをBeanやStringに変換せず、マップしたバッファ上で項目ごとに{@link FieldCheck}を実行する。
+ * 1回にマップするサイズはレコード長の倍数で、2GB未満とする。
+ * </p>
+ *
+ * <p>
+ * 生成時に{@link RecordLayout}の項目をコピーするため、以降の項目定義の変更は影響しない。
+ * スレッドセーフである。
+ * </p>
+ */
+public final class RecordFileValidator {
+
+    /** 1回にマップするサイズの初期値(バイト数) */
+    public static final int DEFAULT_CHUNK_BYTES = 64 * 1024 * 1024;
+
+    /** 項目名 */
+    private final String[] columnNames;
+
+    /** レコード長 */
+    private final int recordLength;
+
+    /** 項目の開始位置 */
+    private final int[] offsets;
+
+    /** 項目のバイト数 */
+    private final int[] lengths;
+
+    /** 項目のチェック */
+    private final FieldCheck[] checks;
+
+    /**
+     * コンストラクタ
+     *
+     * @param layout 項目定義
+     * @throws IllegalArgumentException 項目定義が<code>null</code>の場合
+     */
+    public RecordFileValidator(final RecordLayout layout) throws IllegalArgumentException {
+        if (layout == null) {
+            throw new IllegalArgumentException("layout is null");
+        }
+        this.recordLength = layout.getRecordLength();
+        final int count = layout.getColumnCount();
+        this.columnNames = new String[count];
+        this.offsets = new int[count];
+        this.lengths = new int[count];
+        this.checks = new FieldCheck[count];
+        for (int i = 0; i < count; i++) {
+            columnNames[i] = layout.getColumnName(i);
+            offsets[i] = layout.getColumnOffset(i);
+            lengths[i] = layout.getColumnLength(i);
+            checks[i] = layout.getColumnCheck(i);
+        }
+    }
+
+    /**
+     * ファイルのValidationを呼び出し元のスレッドで行う。
+     *
+     * @param file 対象のファイル
+     * @return Validation結果
+     * @throws IllegalArgumentException ファイルが<code>null</code>の場合
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public RecordValidationResult validate(final File file)
+            throws IllegalArgumentException, IOException {
+        return validate(file, Integer.MAX_VALUE);
+    }
+
+    /**
+     * ファイルのValidationを呼び出し元のスレッドで行う。
+     * エラーのあったレコード数が上限に達した時点で検証を打ち切る。
+     *
+     * @param file 対象のファイル
+     * @param maxFailures エラーのあったレコード数の上限
+     * @return Validation結果
+     * @throws IllegalArgumentException 引数エラー
+     * @throws IOException 読み込みに失敗した場合
+     */
+    public RecordValidationResult validate(final File file, final int maxFailures)
+            throws IllegalArgumentException, IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("file is null");
+        }
+        checkMaxFailures(maxFailures);
+        final int chunkRecords = defaultChunkRecords();
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            final long records = channel.size() / recordLength;
+            final RecordValidationResult result = new RecordValidationResult(columnNames, 0);
+            for (long row = 0; row < records; row += chunkRecords) {
+                if (result.getFailedCount() >= maxFailures) {
+                    result.stop();
+                    break;
+                }
+                result.append(validateChunk(channel, row, (int) Math.min(chunkRecords,
+                        records - row), maxFailures - (int) result.getFailedCount()), maxFailures);
+            }
+            addIncompleteRecord(result, channel.size(), maxFailures);
+            return result;
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * ファイルのValidationを並列に行う。
+     *
+     * @param file 対象のファイル
+     * @param executor 検証を実行する{@code ExecutorService}
+     * @return Validation結果
+     * @throws IllegalArgumentException 引数エラー
+     * @throws IOException 読み込みに失敗した場合
+     * @throws InterruptedException 待機中に割り込まれた場合
+     * @see #validate(File, ExecutorService, int, int)
+     */
+    public RecordValidationResult validate(final File file, final ExecutorService executor)
+            throws IllegalArgumentException, IOException, InterruptedException {
+        return validate(file, executor, defaultChunkRecords(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * ファイルのValidationを並列に行う。
+     *
+     * @param file 対象のファイル
+     * @param executor 検証を実行する{@code ExecutorService}
+     * @param chunkRecords 1タスクで検証するレコード数(レコード長との積が2GB未満)
+     * @return Validation結果
+     * @throws IllegalArgumentException 引数エラー
+     * @throws IOException 読み込みに失敗した場合
+     * @throws InterruptedException 待機中に割り込まれた場合
+     * @see #validate(File, ExecutorService, int, int)
+     */
+    public RecordValidationResult validate(final File file, final ExecutorService executor,
+            final int chunkRecords)
+            throws IllegalArgumentException, IOException, InterruptedException {
+        return validate(file, executor, chunkRecords, Integer.MAX_VALUE);
+    }
+
+    /**
+     * ファイルのValidationを並列に行う。
+     *
+     * <p>
+     * ファイルを指定レコード数ごとに分割して{@code ExecutorService}で検証し、レコードの順序を保って結果を連結する。
+     * 各タスクは担当する範囲だけをメモリマップする。
+     * いずれかのタスクで例外が発生した場合は残りのタスクを取り消して、その例外をスローする。
+     * エラーのあったレコード数が上限に達した場合も、残りのタスクを取り消して
+     * {@link #validate(File, int)}と同じ結果を返す。
+     * </p>
+     *
+     * @param file 対象のファイル
+     * @param executor 検証を実行する{@code ExecutorService}
+     * @param chunkRecords 1タスクで検証するレコード数(レコード長との積が2GB未満)
+     * @param maxFailures エラーのあったレコード数の上限
+     * @return Validation結果
+     * @throws IllegalArgumentException 引数エラー
+     * @throws IOException 読み込みに失敗した場合
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    public RecordValidationResult validate(final File file, final ExecutorService executor,
+            final int chunkRecords, final int maxFailures)
+            throws IllegalArgumentException, IOException, InterruptedException {
+        if (file == null) {
+            throw new IllegalArgumentException("file is null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor is null");
+        }
+        if (chunkRecords < 1 || (long) chunkRecords * recordLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid chunkRecords: " + chunkRecords);
+        }
+        checkMaxFailures(maxFailures);
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        final List<Future<RecordValidationResult>> futures =
+                new ArrayList<Future<RecordValidationResult>>();
+        try {
+            final FileChannel channel = raf.getChannel();
+            final long records = channel.size() / recordLength;
+            for (long row = 0; row < records; row += chunkRecords) {
+                final long firstRow = row;
+                final int count = (int) Math.min(chunkRecords, records - row);
+                futures.add(executor.submit(new Callable<RecordValidationResult>() {
+                    @Override
+                    public RecordValidationResult call() throws IOException {
+                        return validateChunk(channel, firstRow, count, maxFailures);
+                    }
+                }));
+            }
+            final RecordValidationResult result = new RecordValidationResult(columnNames, 0);
+            for (final Future<RecordValidationResult> future : futures) {
+                if (result.getFailedCount() >= maxFailures) {
+                    result.stop();
+                    break;
+                }
+                result.append(future.get(), maxFailures);
+            }
+            addIncompleteRecord(result, channel.size(), maxFailures);
+            return result;
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ValidationException(cause);
+        } finally {
+            for (final Future<RecordValidationResult> future : futures) {
+                future.cancel(true);
+            }
+            raf.close();
+        }
+    }
+
+    /**
+     * 連続したレコードをメモリマップして検証する。
+     * エラーのあったレコード数が上限に達した時点で検証を打ち切る。
+     *
+     * @param channel ファイル
+     * @param firstRow 先頭のレコードの位置
+     * @param count レコード数
+     * @param maxFailures エラーのあったレコード数の上限
+     * @return Validation結果
+     * @throws IOException マップに失敗した場合
+     */
+    private RecordValidationResult validateChunk(final FileChannel channel, final long firstRow,
+            final int count, final int maxFailures) throws IOException {
+        final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                firstRow * recordLength, (long) count * recordLength);
+        final RecordValidationResult result = new RecordValidationResult(columnNames, firstRow);
+        int base = 0;
+        for (int i = 0; i < count; i++) {
+            if (result.getFailedCount() >= maxFailures) {
+                result.addRecordCount(i);
+                result.stop();
+                return result;
+            }
+            for (int column = 0; column < checks.length; column++) {
+                if (!checks[column].isValid(buffer, base + offsets[column], lengths[column])) {
+                    result.add(firstRow + i, column);
+                }
+            }
+            base += recordLength;
+        }
+        result.addRecordCount(count);
+        return result;
+    }
+
+    /**
+     * ファイルの末尾にレコード長に満たないバイトがある場合にエラーを追加する。
+     * エラーのあったレコード数が上限に達している場合は、打ち切ったことを設定する。
+     *
+     * @param result Validation結果
+     * @param fileSize ファイルサイズ
+     * @param maxFailures エラーのあったレコード数の上限
+     */
+    private void addIncompleteRecord(final RecordValidationResult result, final long fileSize,
+            final int maxFailures) {
+        if (fileSize % recordLength == 0 || result.isStopped()) {
+            return;
+        }
+        if (result.getFailedCount() >= maxFailures) {
+            result.stop();
+        } else {
+            result.add(fileSize / recordLength, RecordValidationResult.INCOMPLETE_RECORD);
+        }
+    }
+
+    /**
+     * エラーのあったレコード数の上限をチェックする。
+     *
+     * @param maxFailures エラーのあったレコード数の上限
+     * @throws IllegalArgumentException 上限が1未満の場合
+     */
+    private static void checkMaxFailures(final int maxFailures) throws IllegalArgumentException {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be positive");
+        }
+    }
+
+    /**
+     * 1回にマップするレコード数の初期値を取得する。
+     *
+     * @return レコード数
+     */
+    private int defaultChunkRecords() {
+        return Math.max(1, DEFAULT_CHUNK_BYTES / recordLength);
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.file;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 固定長レコードの項目定義
+ *
+ * <p>
+ * レコード長(改行などの区切り文字を含む)と、項目ごとのレコード内の位置、バイト数、チェックを定義する。
+ * </p>
+ *
+ * <pre>
+ * RecordLayout layout = new RecordLayout(120)
+ *         .addColumn("accountName", 61, 30, FieldChecks.trimRight(
+ *                 FieldChecks.halfKatakana(ByteEncoding.SHIFT_JIS), false))
+ *         .addColumn("amount", 91, 10, FieldChecks.halfNumber());
+ * </pre>
+ */
+public final class RecordLayout {
+
+    /** レコード長 */
+    private final int recordLength;
+
+    /** 項目名 */
+    private final List<String> names = new ArrayList<String>();
+
+    /** 項目の開始位置 */
+    private final List<Integer> offsets = new ArrayList<Integer>();
+
+    /** 項目のバイト数 */
+    private final List<Integer> lengths = new ArrayList<Integer>();
+
+    /** 項目のチェック */
+    private final List<FieldCheck> checks = new ArrayList<FieldCheck>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param recordLength レコード長(バイト数)
+     * @throws IllegalArgumentException レコード長が1未満の場合
+     */
+    public RecordLayout(final int recordLength) throws IllegalArgumentException {
+        if (recordLength < 1) {
+            throw new IllegalArgumentException("recordLength must be positive");
+        }
+        this.recordLength = recordLength;
+    }
+
+    /**
+     * 項目を追加する。
+     *
+     * @param name 項目名
+     * @param offset レコード内の開始位置(0始まり)
+     * @param length バイト数
+     * @param check チェック
+     * @return この項目定義
+     * @throws IllegalArgumentException 引数エラー、または項目がレコードの範囲外の場合
+     */
+    public RecordLayout addColumn(final String name, final int offset, final int length,
+            final FieldCheck check) throws IllegalArgumentException {
+        if (name == null) {
+            throw new IllegalArgumentException("name is null");
+        }
+        if (check == null) {
+            throw new IllegalArgumentException("check is null");
+        }
+        if (offset < 0 || length < 0 || offset > recordLength - length) {
+            throw new IllegalArgumentException("column out of record: name=" + name + ", offset="
+                    + offset + ", length=" + length + ", recordLength=" + recordLength);
+        }
+        names.add(name);
+        offsets.add(offset);
+        lengths.add(length);
+        checks.add(check);
+        return this;
+    }
+
+    /**
+     * レコード長を取得する。
+     *
+     * @return レコード長
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * 項目数を取得する。
+     *
+     * @return 項目数
+     */
+    public int getColumnCount() {
+        return names.size();
+    }
+
+    /**
+     * 項目名を取得する。
+     *
+     * @param column 項目の位置(追加した順、0始まり)
+     * @return 項目名
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public String getColumnName(final int column) throws IndexOutOfBoundsException {
+        return names.get(column);
+    }
+
+    /**
+     * 項目の開始位置を取得する。
+     *
+     * @param column 項目の位置(追加した順、0始まり)
+     * @return レコード内の開始位置
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public int getColumnOffset(final int column) throws IndexOutOfBoundsException {
+        return offsets.get(column);
+    }
+
+    /**
+     * 項目のバイト数を取得する。
+     *
+     * @param column 項目の位置(追加した順、0始まり)
+     * @return バイト数
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public int getColumnLength(final int column) throws IndexOutOfBoundsException {
+        return lengths.get(column);
+    }
+
+    /**
+     * 項目のチェックを取得する。
+     *
+     * @param column 項目の位置(追加した順、0始まり)
+     * @return チェック
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public FieldCheck getColumnCheck(final int column) throws IndexOutOfBoundsException {
+        return checks.get(column);
+    }
+
+}
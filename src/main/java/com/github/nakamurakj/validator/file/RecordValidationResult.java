@@ -0,0 +1,276 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.file;
+
+import java.util.Arrays;
+
+import javax.validation.ValidationException;
+
+/**
+ * 固定長レコードのファイルのValidation結果を保持するクラス。
+ *
+ * <p>
+ * エラーはレコードの位置(0始まり)の昇順に、レコードの位置と項目の位置の配列で保持する。
+ * ファイルの末尾にレコード長に満たないバイトがある場合は、
+ * その位置と項目の位置{@link #INCOMPLETE_RECORD}のエラーとする。
+ * </p>
+ *
+ * <p>
+ * エラーは配列で保持するため、エラー件数が多くなるファイルは
+ * エラーのあったレコード数の上限を指定して検証すること。
+ * </p>
+ */
+public final class RecordValidationResult {
+
+    /** レコード長に満たないレコードを表す項目の位置 */
+    public static final int INCOMPLETE_RECORD = -1;
+
+    /** 配列の初期サイズ */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** 配列の最大サイズ */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /** 空の配列 */
+    private static final long[] EMPTY_ROWS = new long[0];
+
+    /** 空の配列 */
+    private static final int[] EMPTY_COLUMNS = new int[0];
+
+    /** 項目名 */
+    private final String[] columnNames;
+
+    /** 先頭のレコードの位置 */
+    private final long firstRow;
+
+    /** エラーごとのレコードの位置 */
+    private long[] rows = EMPTY_ROWS;
+
+    /** エラーごとの項目の位置 */
+    private int[] columns = EMPTY_COLUMNS;
+
+    /** エラー件数 */
+    private int size;
+
+    /** エラーのあったレコード数 */
+    private long failedCount;
+
+    /** 検証したレコード数 */
+    private long recordCount;
+
+    /** エラーのあったレコード数の上限で検証を打ち切ったか */
+    private boolean stopped;
+
+    /**
+     * コンストラクタ
+     *
+     * @param columnNames 項目名(呼び出し元で変更しないこと)
+     * @param firstRow 先頭のレコードの位置
+     */
+    RecordValidationResult(final String[] columnNames, final long firstRow) {
+        this.columnNames = columnNames;
+        this.firstRow = firstRow;
+    }
+
+    /**
+     * エラーを追加する。同じレコードのエラーは続けて追加すること。
+     *
+     * @param row レコードの位置
+     * @param column 項目の位置
+     */
+    void add(final long row, final int column) {
+        if (size == 0 || rows[size - 1] != row) {
+            failedCount++;
+        }
+        ensureCapacity((long) size + 1);
+        rows[size] = row;
+        columns[size] = column;
+        size++;
+    }
+
+    /**
+     * 検証したレコード数を加算する。
+     *
+     * @param count レコード数
+     */
+    void addRecordCount(final long count) {
+        recordCount += count;
+    }
+
+    /**
+     * 後続のレコードの検証結果を連結する。
+     *
+     * <p>
+     * エラーのあったレコード数が上限に達した場合は、そのレコードまでを連結し、
+     * 後続のレコードが残っていれば打ち切ったことを設定する。
+     * </p>
+     *
+     * @param result 後続のレコードの検証結果
+     * @param maxFailures エラーのあったレコード数の上限
+     */
+    void append(final RecordValidationResult result, final int maxFailures) {
+        long failed = failedCount;
+        int count = 0;
+        while (count < result.size) {
+            if (count == 0 || result.rows[count] != result.rows[count - 1]) {
+                if (failed >= maxFailures) {
+                    break;
+                }
+                failed++;
+            }
+            count++;
+        }
+        ensureCapacity((long) size + count);
+        System.arraycopy(result.rows, 0, rows, size, count);
+        System.arraycopy(result.columns, 0, columns, size, count);
+        size += count;
+        failedCount = failed;
+
+        long validated = result.recordCount;
+        boolean stop = result.stopped;
+        if (failed >= maxFailures) {
+            final long end = count == 0 ? result.firstRow : result.rows[count - 1] + 1;
+            if (end - result.firstRow < validated) {
+                validated = end - result.firstRow;
+                stop = true;
+            }
+        }
+        recordCount += validated;
+        stopped |= stop;
+    }
+
+    /**
+     * エラーのあったレコード数の上限で検証を打ち切ったことを設定する。
+     */
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 配列の容量を確保する。
+     *
+     * @param capacity 必要な容量
+     * @throws ValidationException 配列の最大サイズを超える場合
+     */
+    private void ensureCapacity(final long capacity) throws ValidationException {
+        if (capacity <= rows.length) {
+            return;
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new ValidationException("too many errors: " + capacity);
+        }
+        final long newCapacity = Math.max(capacity,
+                Math.max(INITIAL_CAPACITY, rows.length + (long) (rows.length >> 1)));
+        rows = Arrays.copyOf(rows, (int) Math.min(newCapacity, MAX_CAPACITY));
+        columns = Arrays.copyOf(columns, rows.length);
+    }
+
+    /**
+     * すべてのレコードにエラーがないかを取得する。
+     *
+     * @return エラーがない場合<code>true</code>
+     */
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    /**
+     * エラー件数を取得する。
+     *
+     * @return エラー件数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * エラーのあったレコード数を取得する。
+     *
+     * @return エラーのあったレコード数
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * 検証したレコード数(レコード長に満たないレコードを含まない)を取得する。
+     *
+     * @return 検証したレコード数
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * エラーのあったレコード数の上限で検証を打ち切ったかを取得する。
+     *
+     * @return 打ち切った場合<code>true</code>
+     */
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * エラーのレコードの位置を取得する。
+     *
+     * @param i エラーの位置(0～{@link #size()}-1)
+     * @return レコードの位置(0始まり)
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public long getRow(final int i) throws IndexOutOfBoundsException {
+        checkIndex(i);
+        return rows[i];
+    }
+
+    /**
+     * エラーの項目の位置を取得する。
+     *
+     * @param i エラーの位置(0～{@link #size()}-1)
+     * @return 項目の位置({@link RecordLayout}に追加した順、0始まり)、
+     *         レコード長に満たないレコードの場合は{@link #INCOMPLETE_RECORD}
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public int getColumn(final int i) throws IndexOutOfBoundsException {
+        checkIndex(i);
+        return columns[i];
+    }
+
+    /**
+     * エラーの項目名を取得する。
+     *
+     * @param i エラーの位置(0～{@link #size()}-1)
+     * @return 項目名、レコード長に満たないレコードの場合は<code>null</code>
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public String getColumnName(final int i) throws IndexOutOfBoundsException {
+        final int column = getColumn(i);
+        return column == INCOMPLETE_RECORD ? null : columnNames[column];
+    }
+
+    /**
+     * エラーの位置をチェックする。
+     *
+     * @param i エラーの位置
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    private void checkIndex(final int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index: " + i + ", size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+/**
+ * バリデーションの計測の有効/無効を切り替えるクラス
+ *
+ * <p>
+ * リスナーが設定されていない場合、計測箇所のコストは変数の読み込み1回のみとなる。
+ * </p>
+ */
+public final class Instrumentation {
+
+    /** リスナー(無効の場合は<code>null</code>) */
+    private static volatile ValidationListener listener;
+
+    /**
+     * コンストラクタ
+     */
+    private Instrumentation() {
+        // ignore
+    }
+
+    /**
+     * リスナーを取得する。
+     *
+     * @return リスナー(無効の場合は<code>null</code>)
+     */
+    public static ValidationListener getListener() {
+        return listener;
+    }
+
+    /**
+     * リスナーを設定する。
+     *
+     * @param validationListener リスナー(<code>null</code>の場合は計測を無効にする)
+     */
+    public static void setListener(final ValidationListener validationListener) {
+        listener = validationListener;
+    }
+
+    /**
+     * 計測が有効かを取得する。
+     *
+     * @return 有効の場合<code>true</code>
+     */
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+
+}
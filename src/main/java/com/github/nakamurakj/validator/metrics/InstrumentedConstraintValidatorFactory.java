@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+import java.lang.annotation.Annotation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintValidatorFactory;
+
+/**
+ * 作成した{@code ConstraintValidator}の処理時間を{@link Instrumentation}のリスナーに通知する
+ * {@code ConstraintValidatorFactory}
+ *
+ * <p>
+ * リスナーが設定されていない場合は、元の{@code ConstraintValidator}をそのまま呼び出す。
+ * </p>
+ */
+public class InstrumentedConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+    /** 元の{@code ConstraintValidatorFactory} */
+    private final ConstraintValidatorFactory delegate;
+
+    /**
+     * コンストラクタ
+     *
+     * @param delegate 元の{@code ConstraintValidatorFactory}
+     * @throws IllegalArgumentException 引数エラー
+     */
+    public InstrumentedConstraintValidatorFactory(final ConstraintValidatorFactory delegate)
+            throws IllegalArgumentException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate is null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T extends ConstraintValidator<?, ?>> T getInstance(final Class<T> key) {
+        return (T) new InstrumentedConstraintValidator(delegate.getInstance(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseInstance(final ConstraintValidator<?, ?> instance) {
+        if (instance instanceof InstrumentedConstraintValidator) {
+            delegate.releaseInstance(((InstrumentedConstraintValidator<?, ?>) instance).delegate);
+        } else {
+            delegate.releaseInstance(instance);
+        }
+    }
+
+    /**
+     * 処理時間を計測する{@code ConstraintValidator}
+     *
+     * @param <A> Constraintのアノテーション
+     * @param <T> 検証する値の型
+     */
+    private static final class InstrumentedConstraintValidator<A extends Annotation, T>
+            implements ConstraintValidator<A, T> {
+
+        /** 元の{@code ConstraintValidator} */
+        private final ConstraintValidator<A, T> delegate;
+
+        /** Constraintのアノテーション */
+        private Class<? extends Annotation> constraint;
+
+        /**
+         * コンストラクタ
+         *
+         * @param delegate 元の{@code ConstraintValidator}
+         */
+        InstrumentedConstraintValidator(final ConstraintValidator<A, T> delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void initialize(final A constraintAnnotation) {
+            constraint = constraintAnnotation.annotationType();
+            delegate.initialize(constraintAnnotation);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isValid(final T value, final ConstraintValidatorContext context) {
+            final ValidationListener listener = Instrumentation.getListener();
+            if (listener == null) {
+                return delegate.isValid(value, context);
+            }
+            final long start = System.nanoTime();
+            final boolean valid = delegate.isValid(value, context);
+            listener.constraintValidated(constraint, valid, System.nanoTime() - start);
+            return valid;
+        }
+    }
+
+}
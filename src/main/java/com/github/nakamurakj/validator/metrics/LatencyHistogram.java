@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ロックを利用しない処理時間のヒストグラム
+ *
+ * <p>
+ * 値を2のべき乗ごとの区間に分け、各区間をさらに16分割して件数を記録する。
+ * 記録する値の相対誤差は1/16以内となる。
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    /** 区間内の分割数のビット数 */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** 区間内の分割数 */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** バケット数 */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /** バケットごとの件数 */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /** 件数 */
+    private final AtomicLong totalCount = new AtomicLong();
+
+    /** 合計値 */
+    private final AtomicLong totalValue = new AtomicLong();
+
+    /** 最大値 */
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * 値を記録する。負の値は0として記録する。
+     *
+     * @param value 値
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(v);
+        long max;
+        while (v > (max = maxValue.get())) {
+            if (maxValue.compareAndSet(max, v)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 件数を取得する。
+     *
+     * @return 件数
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * 最大値を取得する。
+     *
+     * @return 最大値
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * 平均値を取得する。
+     *
+     * @return 平均値(記録がない場合は0)
+     */
+    public double getMean() {
+        final long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * パーセンタイル値を取得する。
+     *
+     * @param percentile パーセンタイル(0～100)
+     * @return パーセンタイル値(該当するバケットの下限値、記録がない場合は0)
+     * @throws IllegalArgumentException パーセンタイルが範囲外の場合
+     */
+    public long getPercentile(final double percentile) throws IllegalArgumentException {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        final long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        final long threshold = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= threshold) {
+                return Math.min(lowerBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * 記録をクリアする。
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalValue.set(0);
+        maxValue.set(0);
+    }
+
+    /**
+     * 値のバケットを取得する。
+     *
+     * @param value 値(0以上)
+     * @return バケット
+     */
+    static int bucketOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int mantissa = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + mantissa;
+    }
+
+    /**
+     * バケットの下限値を取得する。
+     *
+     * @param bucket バケット
+     * @return 下限値
+     */
+    static long lowerBoundOf(final int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKET_COUNT - 1;
+        final long mantissa = bucket % SUB_BUCKET_COUNT;
+        return (SUB_BUCKET_COUNT + mantissa) << shift;
+    }
+
+}
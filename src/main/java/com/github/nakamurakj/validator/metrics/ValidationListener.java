@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * バリデーションの実行結果の通知を受け取るリスナー
+ *
+ * <p>
+ * 複数のスレッドから同時に呼び出されるため、スレッドセーフに実装すること。
+ * </p>
+ *
+ * @see Instrumentation#setListener(ValidationListener)
+ */
+public interface ValidationListener {
+
+    /**
+     * Constraintの検証が行われた際に呼び出される。
+     *
+     * @param constraint Constraintのアノテーション
+     * @param valid 検証結果
+     * @param nanos 処理時間(ナノ秒)
+     */
+    void constraintValidated(Class<? extends Annotation> constraint, boolean valid, long nanos);
+
+    /**
+     * Beanの検証が行われた際に呼び出される。
+     *
+     * @param beanClass Beanのクラス
+     * @param violations エラー件数
+     * @param nanos 処理時間(ナノ秒)
+     */
+    void beanValidated(Class<?> beanClass, int violations, long nanos);
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Constraint、Beanごとに呼び出し回数、エラー回数、処理時間を集計する{@link ValidationListener}
+ *
+ * <p>
+ * 以下のように{@link Instrumentation}に設定して利用する。
+ * </p>
+ *
+ * <pre>
+ * ValidationMetrics metrics = new ValidationMetrics();
+ * Instrumentation.setListener(metrics);
+ * metrics.registerMBean();
+ * </pre>
+ */
+public class ValidationMetrics implements ValidationListener, ValidationMetricsMXBean {
+
+    /** JMXのオブジェクト名 */
+    public static final String OBJECT_NAME =
+            "com.github.nakamurakj.validator:type=ValidationMetrics";
+
+    /** Constraintごとの集計値 */
+    private final ConcurrentMap<String, ValidationStatistics> constraints =
+            new ConcurrentHashMap<String, ValidationStatistics>();
+
+    /** Beanごとの集計値 */
+    private final ConcurrentMap<String, ValidationStatistics> beans =
+            new ConcurrentHashMap<String, ValidationStatistics>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void constraintValidated(final Class<? extends Annotation> constraint,
+            final boolean valid, final long nanos) {
+        statistics(constraints, constraint.getName()).record(!valid, nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beanValidated(final Class<?> beanClass, final int violations, final long nanos) {
+        statistics(beans, beanClass.getName()).record(violations > 0, nanos);
+    }
+
+    /**
+     * 集計値を取得する。存在しない場合は作成する。
+     *
+     * @param map 集計値
+     * @param name 名前
+     * @return 集計値
+     */
+    private static ValidationStatistics statistics(
+            final ConcurrentMap<String, ValidationStatistics> map, final String name) {
+        final ValidationStatistics statistics = map.get(name);
+        if (statistics != null) {
+            return statistics;
+        }
+        final ValidationStatistics created = new ValidationStatistics();
+        final ValidationStatistics previous = map.putIfAbsent(name, created);
+        return previous != null ? previous : created;
+    }
+
+    /**
+     * Constraintの集計値を取得する。
+     *
+     * @param constraint Constraintのアノテーション
+     * @return 集計値(記録がない場合は<code>null</code>)
+     */
+    public ValidationStatistics getConstraintStatistics(
+            final Class<? extends Annotation> constraint) {
+        return constraints.get(constraint.getName());
+    }
+
+    /**
+     * Beanの集計値を取得する。
+     *
+     * @param beanClass Beanのクラス
+     * @return 集計値(記録がない場合は<code>null</code>)
+     */
+    public ValidationStatistics getBeanStatistics(final Class<?> beanClass) {
+        return beans.get(beanClass.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getConstraintCallCounts() {
+        return callCounts(constraints);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getConstraintFailureCounts() {
+        return failureCounts(constraints);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getConstraintLatency99thPercentiles() {
+        return percentiles(constraints, 99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getBeanCallCounts() {
+        return callCounts(beans);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getBeanFailureCounts() {
+        return failureCounts(beans);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getBeanLatency99thPercentiles() {
+        return percentiles(beans, 99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getConstraintLatencyPercentile(final String constraint, final double percentile) {
+        final ValidationStatistics statistics = constraints.get(constraint);
+        return statistics == null ? 0 : statistics.getLatency().getPercentile(percentile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getBeanLatencyPercentile(final String beanClass, final double percentile) {
+        final ValidationStatistics statistics = beans.get(beanClass);
+        return statistics == null ? 0 : statistics.getLatency().getPercentile(percentile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        for (final ValidationStatistics statistics : constraints.values()) {
+            statistics.reset();
+        }
+        for (final ValidationStatistics statistics : beans.values()) {
+            statistics.reset();
+        }
+    }
+
+    /**
+     * {@link #OBJECT_NAME}でプラットフォームMBeanサーバーに登録する。
+     *
+     * @throws JMException 登録に失敗した場合
+     */
+    public void registerMBean() throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * プラットフォームMBeanサーバーから登録を解除する。
+     *
+     * @throws JMException 登録解除に失敗した場合
+     */
+    public void unregisterMBean() throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.unregisterMBean(new ObjectName(OBJECT_NAME));
+    }
+
+    /**
+     * 呼び出し回数を取得する。
+     *
+     * @param map 集計値
+     * @return 名前ごとの呼び出し回数
+     */
+    private static Map<String, Long> callCounts(final Map<String, ValidationStatistics> map) {
+        final Map<String, Long> result = new TreeMap<String, Long>();
+        for (final Map.Entry<String, ValidationStatistics> entry : map.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getCallCount());
+        }
+        return result;
+    }
+
+    /**
+     * エラー回数を取得する。
+     *
+     * @param map 集計値
+     * @return 名前ごとのエラー回数
+     */
+    private static Map<String, Long> failureCounts(final Map<String, ValidationStatistics> map) {
+        final Map<String, Long> result = new TreeMap<String, Long>();
+        for (final Map.Entry<String, ValidationStatistics> entry : map.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getFailureCount());
+        }
+        return result;
+    }
+
+    /**
+     * 処理時間のパーセンタイル値を取得する。
+     *
+     * @param map 集計値
+     * @param percentile パーセンタイル
+     * @return 名前ごとのパーセンタイル値
+     */
+    private static Map<String, Long> percentiles(final Map<String, ValidationStatistics> map,
+            final double percentile) {
+        final Map<String, Long> result = new TreeMap<String, Long>();
+        for (final Map.Entry<String, ValidationStatistics> entry : map.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getLatency().getPercentile(percentile));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+import java.util.Map;
+
+/**
+ * {@link ValidationMetrics}のJMXインターフェース
+ *
+ * <p>
+ * 集計値はConstraintのアノテーション、またはBeanのクラスの完全修飾名をキーとする。
+ * 処理時間の単位はナノ秒。
+ * </p>
+ */
+public interface ValidationMetricsMXBean {
+
+    /**
+     * Constraintごとの呼び出し回数を取得する。
+     *
+     * @return Constraintごとの呼び出し回数
+     */
+    Map<String, Long> getConstraintCallCounts();
+
+    /**
+     * Constraintごとのエラー回数を取得する。
+     *
+     * @return Constraintごとのエラー回数
+     */
+    Map<String, Long> getConstraintFailureCounts();
+
+    /**
+     * Constraintごとの処理時間の99パーセンタイル値を取得する。
+     *
+     * @return Constraintごとの処理時間の99パーセンタイル値
+     */
+    Map<String, Long> getConstraintLatency99thPercentiles();
+
+    /**
+     * Beanごとの呼び出し回数を取得する。
+     *
+     * @return Beanごとの呼び出し回数
+     */
+    Map<String, Long> getBeanCallCounts();
+
+    /**
+     * Beanごとのエラー回数を取得する。
+     *
+     * @return Beanごとのエラー回数
+     */
+    Map<String, Long> getBeanFailureCounts();
+
+    /**
+     * Beanごとの処理時間の99パーセンタイル値を取得する。
+     *
+     * @return Beanごとの処理時間の99パーセンタイル値
+     */
+    Map<String, Long> getBeanLatency99thPercentiles();
+
+    /**
+     * Constraintの処理時間のパーセンタイル値を取得する。
+     *
+     * @param constraint Constraintのアノテーションの完全修飾名
+     * @param percentile パーセンタイル(0～100)
+     * @return パーセンタイル値(記録がない場合は0)
+     */
+    long getConstraintLatencyPercentile(String constraint, double percentile);
+
+    /**
+     * Beanの処理時間のパーセンタイル値を取得する。
+     *
+     * @param beanClass Beanのクラスの完全修飾名
+     * @param percentile パーセンタイル(0～100)
+     * @return パーセンタイル値(記録がない場合は0)
+     */
+    long getBeanLatencyPercentile(String beanClass, double percentile);
+
+    /**
+     * 集計値をクリアする。
+     */
+    void reset();
+
+}
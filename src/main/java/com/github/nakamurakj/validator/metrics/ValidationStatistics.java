@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Constraint(またはBean)ごとの集計値を保持するクラス
+ */
+public final class ValidationStatistics {
+
+    /** 呼び出し回数 */
+    private final AtomicLong callCount = new AtomicLong();
+
+    /** エラー回数 */
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /** 処理時間(ナノ秒) */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * 実行結果を記録する。
+     *
+     * @param failed エラーの場合<code>true</code>
+     * @param nanos 処理時間(ナノ秒)
+     */
+    void record(final boolean failed, final long nanos) {
+        callCount.incrementAndGet();
+        if (failed) {
+            failureCount.incrementAndGet();
+        }
+        latency.record(nanos);
+    }
+
+    /**
+     * 記録をクリアする。
+     */
+    void reset() {
+        callCount.set(0);
+        failureCount.set(0);
+        latency.reset();
+    }
+
+    /**
+     * 呼び出し回数を取得する。
+     *
+     * @return 呼び出し回数
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * エラー回数を取得する。
+     *
+     * @return エラー回数
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * 処理時間(ナノ秒)のヒストグラムを取得する。
+     *
+     * @return 処理時間のヒストグラム
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+}
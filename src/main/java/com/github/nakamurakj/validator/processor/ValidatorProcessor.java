@@ -0,0 +1,790 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+import com.github.nakamurakj.validator.GeneratedValidators;
+
+/**
+ * Constraintを設定したBeanのValidatorを生成するアノテーションプロセッサ
+ *
+ * <p>
+ * {@code com.github.nakamurakj.validator.constraints}のConstraintをフィールドまたはgetterに設定したクラスごとに、
+ * {@link com.github.nakamurakj.validator.Validators}のチェックを直接呼び出す
+ * {@link com.github.nakamurakj.validator.GeneratedValidator}の実装クラスを生成する。
+ * 生成したValidatorは{@link GeneratedValidators}から利用する。
+ * </p>
+ *
+ * <p>
+ * 自動では登録しないため、javacの<code>-processor</code>オプション(mavenの場合は
+ * maven-compiler-pluginの<code>annotationProcessors</code>)で指定する。
+ * </p>
+ *
+ * <p>
+ * 以下のConstraintは生成の対象外とし、警告を出力する。
+ * </p>
+ * <ul>
+ * <li>生成したクラスからアクセスできないフィールドで、アクセスできるgetterもないもの
+ * (getterがある場合はgetterから値を取得する)</li>
+ * <li>String以外の型のフィールド、getter</li>
+ * </ul>
+ * <p>
+ * Defaultグループを含まない<code>groups</code>を指定したConstraint、
+ * staticフィールド、{@code @Valid}によるカスケードは{@code BeanValidator#validateBean}と同様に検証しない。
+ * </p>
+ */
+public class ValidatorProcessor extends AbstractProcessor {
+
+    /** Constraintのパッケージ */
+    private static final String CONSTRAINTS_PACKAGE = "com.github.nakamurakj.validator.constraints.";
+
+    /** {@code Validators}のクラス名 */
+    private static final String VALIDATORS = "com.github.nakamurakj.validator.Validators";
+
+    /** {@code DateFormatMatcher}のクラス名 */
+    private static final String DATE_FORMAT_MATCHER = "com.github.nakamurakj.validator.DateFormatMatcher";
+
+    /** {@code TokenSet}のクラス名 */
+    private static final String TOKEN_SET = "com.github.nakamurakj.validator.TokenSet";
+
+    /** {@code TelNoPlan}のクラス名 */
+    private static final String TEL_NO_PLAN = "com.github.nakamurakj.validator.TelNoPlan";
+
+    /** {@code ZipCodeIndex}のクラス名 */
+    private static final String ZIP_CODE_INDEX = "com.github.nakamurakj.validator.ZipCodeIndex";
+
+    /** {@code GeneratedValidator}のクラス名 */
+    private static final String GENERATED_VALIDATOR = "com.github.nakamurakj.validator.GeneratedValidator";
+
+    /** {@code GeneratedViolation}のクラス名 */
+    private static final String GENERATED_VIOLATION = "com.github.nakamurakj.validator.GeneratedViolation";
+
+    /** Defaultグループのクラス名 */
+    private static final String DEFAULT_GROUP = "javax.validation.groups.Default";
+
+    /** 対象のConstraintの単純名 */
+    private static final Set<String> CONSTRAINTS = Collections.unmodifiableSet(
+            new LinkedHashSet<String>(Arrays.asList("BooleanString", "Charset",
+                    "DateFormat", "HalfKatakana", "HalfNumber", "Hiragana", "Katakana",
+                    "NumberString", "TelNo", "YesNo", "ZipCode")));
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        final Set<String> types = new LinkedHashSet<String>();
+        for (final String constraint : CONSTRAINTS) {
+            types.add(CONSTRAINTS_PACKAGE + constraint);
+        }
+        return types;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+            final RoundEnvironment roundEnv) {
+        final Set<TypeElement> beans = new LinkedHashSet<TypeElement>();
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                final Element enclosing = element.getEnclosingElement();
+                if ((element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.METHOD)
+                        && enclosing.getKind() == ElementKind.CLASS) {
+                    beans.add((TypeElement) enclosing);
+                }
+            }
+        }
+        for (final TypeElement bean : beans) {
+            if (isGeneratable(bean)) {
+                generate(bean);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成したクラスからBeanのクラスを参照できるかを判定する。
+     *
+     * @param bean Beanのクラス
+     * @return 参照できる場合<code>true</code>
+     */
+    private boolean isGeneratable(final TypeElement bean) {
+        Element element = bean;
+        while (element instanceof TypeElement) {
+            final TypeElement type = (TypeElement) element;
+            final NestingKind nesting = type.getNestingKind();
+            if (nesting != NestingKind.TOP_LEVEL && nesting != NestingKind.MEMBER
+                    || type.getModifiers().contains(Modifier.PRIVATE)
+                    || nesting == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+                warning(bean, "validator is not generated: class must be a top level or "
+                        + "non-private static member class");
+                return false;
+            }
+            element = type.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Validatorを生成する。
+     *
+     * @param bean Beanのクラス
+     */
+    private void generate(final TypeElement bean) {
+        final String packageName = getPackage(bean).getQualifiedName().toString();
+        final Map<String, Property> properties = collectProperties(bean, packageName);
+        final String className = GeneratedValidators.getValidatorClassName(
+                processingEnv.getElementUtils().getBinaryName(bean).toString());
+        final String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        final String beanType = bean.getQualifiedName().toString();
+        final boolean raw = !bean.getTypeParameters().isEmpty();
+
+        final SourceBuilder src = new SourceBuilder();
+        if (!packageName.isEmpty()) {
+            src.line("package " + packageName + ";").line("");
+        }
+        src.line("/**");
+        src.line(" * {@code " + beanType + "}のValidator");
+        src.line(" *");
+        src.line(" * <p>");
+        src.line(" * " + ValidatorProcessor.class.getName() + "により生成。編集しないこと。");
+        src.line(" * </p>");
+        src.line(" */");
+        if (raw) {
+            src.line("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+        }
+        src.line("public final class " + simpleName + " implements " + GENERATED_VALIDATOR
+                + "<" + beanType + "> {").line("");
+
+        final StringBuilder fields = new StringBuilder("    private static final String[] NO_ATTRIBUTES = {};\n\n");
+        final List<String[]> checks = new ArrayList<String[]>();
+        int index = 0;
+        for (final Property property : properties.values()) {
+            for (final AnnotationMirror constraint : property.constraints) {
+                final Map<String, Object> values = getValues(constraint);
+                final String name = constraint.getAnnotationType().asElement().getSimpleName().toString();
+                final String literals = attributeLiterals(values);
+                final String attributes;
+                if (literals.isEmpty()) {
+                    attributes = "NO_ATTRIBUTES";
+                } else {
+                    attributes = "ATTRIBUTES_" + index;
+                    fields.append("    private static final String[] ").append(attributes)
+                            .append(" = {").append(literals).append("};\n\n");
+                }
+                final String expression = checkExpression(name, values, index, fields);
+                checks.add(new String[] {property.access, expression, property.name,
+                        CONSTRAINTS_PACKAGE + name, literal((String) values.get("message")),
+                        attributes});
+                index++;
+            }
+        }
+        src.raw(fields.toString());
+
+        src.line("    @Override");
+        src.line("    public Class<" + beanType + "> getBeanClass() {");
+        src.line("        return " + beanType + ".class;");
+        src.line("    }").line("");
+
+        src.line("    @Override");
+        src.line("    public boolean isValid(final " + beanType + " bean) {");
+        src.line("        String value;");
+        String access = null;
+        for (final String[] check : checks) {
+            if (!check[0].equals(access)) {
+                access = check[0];
+                src.line("        value = " + access + ";");
+            }
+            src.line("        if (value != null && !(" + check[1] + ")) {");
+            src.line("            return false;");
+            src.line("        }");
+        }
+        src.line("        return true;");
+        src.line("    }").line("");
+
+        final String violationType = GENERATED_VIOLATION + "<" + beanType + ">";
+        src.line("    @Override");
+        src.line("    public java.util.List<" + violationType + "> validate(final " + beanType
+                + " bean) {");
+        src.line("        java.util.List<" + violationType + "> violations = null;");
+        src.line("        String value;");
+        access = null;
+        for (final String[] check : checks) {
+            if (!check[0].equals(access)) {
+                access = check[0];
+                src.line("        value = " + access + ";");
+            }
+            src.line("        if (value != null && !(" + check[1] + ")) {");
+            src.line("            violations = " + GENERATED_VIOLATION + ".add(violations, new "
+                    + violationType + "(bean, " + literal(check[2]) + ", " + check[3] + ".class, "
+                    + check[4] + ", " + check[5] + "));");
+            src.line("        }");
+        }
+        src.line("        if (violations == null) {");
+        src.line("            return java.util.Collections.emptyList();");
+        src.line("        }");
+        src.line("        return violations;");
+        src.line("    }").line("");
+        src.line("}");
+
+        try {
+            final Writer writer = processingEnv.getFiler().createSourceFile(className, bean).openWriter();
+            try {
+                writer.write(src.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "failed to write " + className + ": " + e.getMessage(), bean);
+        }
+    }
+
+    /**
+     * Constraintのチェックを行う式を作成する。
+     *
+     * @param constraint Constraintの単純名
+     * @param values Constraintの属性値
+     * @param index Constraintの通番
+     * @param fields 生成するクラスのstaticフィールド(必要な場合に追加する)
+     * @return チェックを行う式
+     */
+    private static String checkExpression(final String constraint, final Map<String, Object> values,
+            final int index, final StringBuilder fields) {
+        if ("BooleanString".equals(constraint) || "YesNo".equals(constraint)) {
+            final String tokens = "TOKENS_" + index;
+            final StringBuilder literals = new StringBuilder();
+            for (final Object token : (List<?>) values.get("values")) {
+                if (literals.length() > 0) {
+                    literals.append(", ");
+                }
+                literals.append(literal((String) ((AnnotationValue) token).getValue()));
+            }
+            fields.append("    private static final ").append(TOKEN_SET).append(' ').append(tokens)
+                    .append(" =\n            new ").append(TOKEN_SET).append("(new String[] {")
+                    .append(literals).append("}, ").append(values.get("ignoreCase")).append(");\n\n");
+            return tokens + ".contains(value)";
+        } else if ("Charset".equals(constraint)) {
+            return VALIDATORS + ".isCharsetSupported(value)";
+        } else if ("DateFormat".equals(constraint)) {
+            final String matcher = "DATE_FORMAT_" + index;
+            fields.append("    private static final ").append(DATE_FORMAT_MATCHER).append(' ')
+                    .append(matcher).append(" =\n            ").append(DATE_FORMAT_MATCHER)
+                    .append(".getInstance(").append(literal((String) values.get("value")))
+                    .append(");\n\n");
+            return matcher + ".matches(value)";
+        } else if ("HalfKatakana".equals(constraint)) {
+            return VALIDATORS + ".isHalfKatakana(value)";
+        } else if ("HalfNumber".equals(constraint)) {
+            return VALIDATORS + ".isHalfNumber(value)";
+        } else if ("Hiragana".equals(constraint) || "Katakana".equals(constraint)) {
+            return VALIDATORS + ".is" + constraint + "(value, " + values.get("space") + ", "
+                    + values.get("halfSpace") + ", " + values.get("longMarks") + ")";
+        } else if ("NumberString".equals(constraint)) {
+            return VALIDATORS + ".isNumberString(value, " + values.get("min") + ", "
+                    + values.get("max") + ", " + values.get("arbitraryLength") + ")";
+        } else if ("TelNo".equals(constraint)) {
+            final String regexp = (String) values.get("regexp");
+            if (!regexp.isEmpty()) {
+                return VALIDATORS + ".isPatternMatch(value, "
+                        + patternField(regexp, patternFlags(values), index, fields) + ")";
+            }
+            if (Boolean.TRUE.equals(values.get("areaCode"))) {
+                return TEL_NO_PLAN + ".getDefault().matches(value)";
+            }
+            return VALIDATORS + ".isTelNo(value, null)";
+        } else if ("ZipCode".equals(constraint)) {
+            final String regexp = (String) values.get("regexp");
+            final String format;
+            if (!regexp.isEmpty()) {
+                format = VALIDATORS + ".isPatternMatch(value, "
+                        + patternField(regexp, patternFlags(values), index, fields) + ")";
+            } else {
+                final String hyphen = values.get("hyphen").toString();
+                format = VALIDATORS + ".isZipCode(value, " + !"FORBIDDEN".equals(hyphen) + ", "
+                        + !"REQUIRED".equals(hyphen) + ", " + values.get("fullWidth") + ")";
+            }
+            if (Boolean.TRUE.equals(values.get("exists"))) {
+                return format + " && " + ZIP_CODE_INDEX + ".requireDefault().contains(value)";
+            }
+            return format;
+        }
+        throw new IllegalStateException("unsupported constraint: " + constraint);
+    }
+
+    /**
+     * <code>flags</code>属性から{@code java.util.regex.Pattern}のフラグを作成する。
+     *
+     * @param values Constraintの属性値
+     * @return フラグ
+     */
+    private static int patternFlags(final Map<String, Object> values) {
+        int flags = 0;
+        for (final Object flag : (List<?>) values.get("flags")) {
+            final String name = ((VariableElement) ((AnnotationValue) flag).getValue())
+                    .getSimpleName().toString();
+            flags |= javax.validation.constraints.Pattern.Flag.valueOf(name).getValue();
+        }
+        return flags;
+    }
+
+    /**
+     * コンパイル済み正規表現のstaticフィールドを追加する。
+     *
+     * @param regexp 正規表現
+     * @param flags {@code java.util.regex.Pattern}のフラグ
+     * @param index Constraintの通番
+     * @param fields 生成するクラスのstaticフィールド
+     * @return フィールド名
+     */
+    private static String patternField(final String regexp, final int flags, final int index,
+            final StringBuilder fields) {
+        final String pattern = "PATTERN_" + index;
+        fields.append("    private static final java.util.regex.Pattern ").append(pattern)
+                .append(" =\n            java.util.regex.Pattern.compile(").append(literal(regexp))
+                .append(", ").append(flags).append(");\n\n");
+        return pattern;
+    }
+
+    /**
+     * Beanのクラスとスーパークラスから、Constraintを設定したプロパティを収集する。
+     *
+     * @param bean Beanのクラス
+     * @param packageName 生成するクラスのパッケージ
+     * @return アクセス式ごとのプロパティ
+     */
+    private Map<String, Property> collectProperties(final TypeElement bean, final String packageName) {
+        final List<TypeElement> hierarchy = new ArrayList<TypeElement>();
+        for (TypeElement type = bean; type != null; type = getSuperclass(type)) {
+            hierarchy.add(0, type);
+        }
+        final Map<String, Property> properties = new LinkedHashMap<String, Property>();
+        for (final TypeElement type : hierarchy) {
+            for (final Element member : type.getEnclosedElements()) {
+                final List<AnnotationMirror> constraints = getConstraints(member);
+                if (constraints.isEmpty() || member.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                final String name;
+                final String access;
+                if (member.getKind() == ElementKind.FIELD) {
+                    name = member.getSimpleName().toString();
+                    if (isAccessible(member, packageName)) {
+                        access = "bean." + name;
+                    } else {
+                        final ExecutableElement getter = findGetter(bean, name, packageName);
+                        if (getter == null) {
+                            warning(member, "constraint is skipped: field is not accessible "
+                                    + "from the generated validator and has no accessible getter");
+                            continue;
+                        }
+                        access = "bean." + getter.getSimpleName() + "()";
+                    }
+                } else if (member.getKind() == ElementKind.METHOD) {
+                    name = getPropertyName((ExecutableElement) member);
+                    if (name == null || !isAccessible(member, packageName)) {
+                        warning(member, "constraint is skipped: method is not an accessible getter");
+                        continue;
+                    }
+                    access = "bean." + member.getSimpleName() + "()";
+                } else {
+                    continue;
+                }
+                if (!isString(member)) {
+                    warning(member, "constraint is skipped: type must be java.lang.String");
+                    continue;
+                }
+                Property property = properties.get(access);
+                if (property == null) {
+                    property = new Property(name, access);
+                    properties.put(access, property);
+                }
+                property.constraints.addAll(constraints);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * 対象のConstraintのうち、Defaultグループで検証するものを取得する。
+     *
+     * @param element フィールドまたはメソッド
+     * @return Constraintのアノテーション
+     */
+    private List<AnnotationMirror> getConstraints(final Element element) {
+        final List<AnnotationMirror> constraints = new ArrayList<AnnotationMirror>();
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            final TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            final String name = type.getQualifiedName().toString();
+            if (name.startsWith(CONSTRAINTS_PACKAGE)
+                    && CONSTRAINTS.contains(type.getSimpleName().toString())
+                    && isDefaultGroup(mirror)) {
+                constraints.add(mirror);
+            }
+        }
+        return constraints;
+    }
+
+    /**
+     * ConstraintがDefaultグループで検証されるかを判定する。
+     *
+     * @param mirror Constraintのアノテーション
+     * @return Defaultグループで検証される場合<code>true</code>
+     */
+    private boolean isDefaultGroup(final AnnotationMirror mirror) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (!entry.getKey().getSimpleName().contentEquals("groups")) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            final List<? extends AnnotationValue> groups =
+                    (List<? extends AnnotationValue>) entry.getValue().getValue();
+            if (groups.isEmpty()) {
+                return true;
+            }
+            for (final AnnotationValue group : groups) {
+                final TypeMirror type = (TypeMirror) group.getValue();
+                if (type.getKind() == TypeKind.DECLARED && ((TypeElement) ((DeclaredType) type)
+                        .asElement()).getQualifiedName().contentEquals(DEFAULT_GROUP)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Constraintの属性値を取得する。
+     *
+     * @param mirror Constraintのアノテーション
+     * @return 属性名ごとの値
+     */
+    private Map<String, Object> getValues(final AnnotationMirror mirror) {
+        final Map<String, Object> values = new LinkedHashMap<String, Object>();
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return values;
+    }
+
+    /**
+     * メッセージの補間に利用する属性の配列の要素を作成する。
+     *
+     * @param values Constraintの属性値
+     * @return 配列の要素のリテラル
+     */
+    private static String attributeLiterals(final Map<String, Object> values) {
+        final StringBuilder builder = new StringBuilder();
+        for (final Map.Entry<String, Object> entry : values.entrySet()) {
+            final String name = entry.getKey();
+            if ("message".equals(name) || "groups".equals(name) || "payload".equals(name)) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(literal(name)).append(", ").append(literal(toString(entry.getValue())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 属性値を文字列に変換する。配列は<code>[a, b]</code>の形式とする。
+     *
+     * @param value 属性値
+     * @return 文字列
+     */
+    private static String toString(final Object value) {
+        if (!(value instanceof List)) {
+            return String.valueOf(value);
+        }
+        final StringBuilder builder = new StringBuilder("[");
+        for (final Object element : (List<?>) value) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(toString(((AnnotationValue) element).getValue()));
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * フィールドに対応するgetterを検索する。
+     *
+     * @param bean Beanのクラス
+     * @param field フィールド名
+     * @param packageName 生成するクラスのパッケージ
+     * @return getter(存在しない場合は<code>null</code>)
+     */
+    private ExecutableElement findGetter(final TypeElement bean, final String field,
+            final String packageName) {
+        final String suffix = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        for (TypeElement type = bean; type != null; type = getSuperclass(type)) {
+            for (final Element member : type.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.METHOD
+                        || member.getModifiers().contains(Modifier.STATIC)
+                        || !isAccessible(member, packageName)) {
+                    continue;
+                }
+                final String name = member.getSimpleName().toString();
+                if ((name.equals("get" + suffix) || name.equals("is" + suffix))
+                        && ((ExecutableElement) member).getParameters().isEmpty()) {
+                    return (ExecutableElement) member;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * getterのプロパティ名を取得する。
+     *
+     * @param method メソッド
+     * @return プロパティ名(getterでない場合は<code>null</code>)
+     */
+    private static String getPropertyName(final ExecutableElement method) {
+        if (!method.getParameters().isEmpty()) {
+            return null;
+        }
+        final String name = method.getSimpleName().toString();
+        final String property;
+        if (name.startsWith("get") && name.length() > 3) {
+            property = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2) {
+            property = name.substring(2);
+        } else {
+            return null;
+        }
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    /**
+     * 生成したクラスからアクセスできるかを判定する。
+     *
+     * @param member フィールドまたはメソッド
+     * @param packageName 生成するクラスのパッケージ
+     * @return アクセスできる場合<code>true</code>
+     */
+    private static boolean isAccessible(final Element member, final String packageName) {
+        final Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && getPackage(member).getQualifiedName().contentEquals(packageName);
+    }
+
+    /**
+     * フィールドまたはgetterの型がStringかを判定する。
+     *
+     * @param member フィールドまたはメソッド
+     * @return Stringの場合<code>true</code>
+     */
+    private boolean isString(final Element member) {
+        final TypeMirror type = member instanceof VariableElement ? member.asType()
+                : ((ExecutableElement) member).getReturnType();
+        final TypeMirror string =
+                processingEnv.getElementUtils().getTypeElement("java.lang.String").asType();
+        return processingEnv.getTypeUtils().isSameType(type, string);
+    }
+
+    /**
+     * スーパークラスを取得する。
+     *
+     * @param type クラス
+     * @return スーパークラス(<code>java.lang.Object</code>の場合は<code>null</code>)
+     */
+    private static TypeElement getSuperclass(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        if (element.getQualifiedName().contentEquals("java.lang.Object")) {
+            return null;
+        }
+        return element;
+    }
+
+    /**
+     * 要素のパッケージを取得する。
+     *
+     * @param element 要素
+     * @return パッケージ
+     */
+    private static PackageElement getPackage(final Element element) {
+        Element e = element;
+        while (e.getKind() != ElementKind.PACKAGE) {
+            e = e.getEnclosingElement();
+        }
+        return (PackageElement) e;
+    }
+
+    /**
+     * 警告を出力する。
+     *
+     * @param element 対象の要素
+     * @param message メッセージ
+     */
+    private void warning(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    /**
+     * 文字列のJavaリテラルを作成する。
+     *
+     * @param value 文字列
+     * @return Javaリテラル
+     */
+    static String literal(final String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Constraintを設定したプロパティ
+     */
+    private static final class Property {
+
+        /** プロパティ名 */
+        private final String name;
+
+        /** 値を取得する式 */
+        private final String access;
+
+        /** Constraintのアノテーション */
+        private final List<AnnotationMirror> constraints = new ArrayList<AnnotationMirror>();
+
+        /**
+         * コンストラクタ
+         *
+         * @param name プロパティ名
+         * @param access 値を取得する式
+         */
+        private Property(final String name, final String access) {
+            this.name = name;
+            this.access = access;
+        }
+    }
+
+    /**
+     * ソースコードを組み立てるクラス
+     */
+    private static final class SourceBuilder {
+
+        /** ソースコード */
+        private final StringBuilder builder = new StringBuilder(4096);
+
+        /**
+         * 行を追加する。
+         *
+         * @param line 行
+         * @return this
+         */
+        private SourceBuilder line(final String line) {
+            builder.append(line).append('\n');
+            return this;
+        }
+
+        /**
+         * 文字列をそのまま追加する。
+         *
+         * @param text 文字列
+         * @return this
+         */
+        private SourceBuilder raw(final String text) {
+            builder.append(text);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.MessageInterpolator;
+import javax.validation.Payload;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.validator.HibernateValidator;
+import org.junit.After;
+import org.junit.Test;
+
+import com.github.nakamurakj.validator.BeanValidator.ValidateMessage;
+import com.github.nakamurakj.validator.BeanValidator.ViolationHandler;
+import com.github.nakamurakj.validator.constraints.Katakana;
+import com.github.nakamurakj.validator.constraints.KatakanaTest;
+import com.github.nakamurakj.validator.constraints.TelNo;
+import com.github.nakamurakj.validator.constraints.ZipCode;
+
+/**
+ * {@link BeanValidator}のテストクラス
+ */
+public class BeanValidatorTest {
+
+    public static class Bean {
+        @ZipCode
+        public String zipCode;
+
+        @TelNo
+        public String telNo;
+
+        public Bean(String zipCode, String telNo) {
+            this.zipCode = zipCode;
+            this.telNo = telNo;
+        }
+    }
+
+    @Constraint(validatedBy = ClassCheckValidator.class)
+    @Retention(RUNTIME)
+    @Target(TYPE)
+    public @interface ClassCheck {
+        String message() default "class check";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class ClassCheckValidator implements ConstraintValidator<ClassCheck, Object> {
+        static final AtomicInteger INITIALIZED = new AtomicInteger();
+
+        @Override
+        public void initialize(ClassCheck constraintAnnotation) {
+            INITIALIZED.incrementAndGet();
+        }
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
+    /** nullを検証すると例外が発生するConstraint */
+    @Constraint(validatedBy = NotEmptyValidator.class)
+    @Retention(RUNTIME)
+    @Target({FIELD, METHOD})
+    public @interface NotEmpty {
+        String message() default "not empty";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class NotEmptyValidator implements ConstraintValidator<NotEmpty, String> {
+        @Override
+        public void initialize(NotEmpty constraintAnnotation) {}
+
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return !value.isEmpty();
+        }
+    }
+
+    @ClassCheck
+    public static class WarmupBean {
+        @NotEmpty
+        public String value = "x";
+    }
+
+    private final ValidatorFactory defaultFactory = BeanValidator.getValidatorFactory();
+
+    @After
+    public void tearDown() {
+        BeanValidator.setValidatorFactory(defaultFactory);
+    }
+
+    @Test
+    public void testValidator() {
+        assertSame(BeanValidator.getValidator(), BeanValidator.getValidator());
+    }
+
+    @Test
+    public void testValidateBean() {
+        List<ValidateMessage<Bean>> messages = BeanValidator.validateBean(new Bean("001-1111", null));
+        assertTrue(messages.isEmpty());
+        assertSame(messages, BeanValidator.validateBean(new Bean(null, "03-1111-1111")));
+
+        messages = BeanValidator.validateBean(new Bean("xxx", null));
+        assertEquals(1, messages.size());
+        ValidateMessage<Bean> message = messages.get(0);
+        assertEquals("Bean", message.getRootBeanName());
+        assertEquals("zipCode", message.getTargetProperty());
+        assertEquals("InvalidZipCode", message.getError());
+        assertEquals("Bean#zipCode[The format of the zipcode is invalid.]",
+                message.createErrorMessage());
+    }
+
+    @Test
+    public void testValidateBeanFailFast() {
+        assertTrue(BeanValidator.validateBean(new Bean("001-1111", null), true).isEmpty());
+        assertEquals(2, BeanValidator.validateBean(new Bean("xxx", "xxx")).size());
+        List<ValidateMessage<Bean>> messages = BeanValidator.validateBean(new Bean("xxx", "xxx"), true);
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).getError().startsWith("Invalid"));
+
+        // 通常の検証と同じく変更可能なリスト
+        messages.add(messages.get(0));
+        assertEquals(2, messages.size());
+    }
+
+    @Test
+    public void testIsValid() {
+        assertTrue(BeanValidator.isValid(new Bean("001-1111", "03-1111-1111")));
+        assertTrue(BeanValidator.isValid(new Bean(null, null)));
+        assertFalse(BeanValidator.isValid(new Bean("xxx", null)));
+        assertFalse(BeanValidator.isValid(new Bean(null, "xxx")));
+
+        // エラーメッセージの補間を行わないValidatorが通常の検証に影響しないこと
+        assertEquals("The format of the zipcode is invalid.",
+                BeanValidator.validateBean(new Bean("xxx", null)).get(0).getMessage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIsValidNull() {
+        BeanValidator.isValid(null);
+    }
+
+    @Test
+    public void testValidatorFactoryFailFast() {
+        ValidatorFactory factory = Validation.byProvider(HibernateValidator.class).configure()
+                .failFast(true).buildValidatorFactory();
+        BeanValidator.setValidatorFactory(factory);
+        assertEquals(1, BeanValidator.validateBean(new Bean("xxx", "xxx")).size());
+    }
+
+    @Test
+    public void testPreload() throws IOException {
+        Map<Class<?>, Long> times = BeanValidator.preload(Bean.class, String.class);
+        assertEquals(Arrays.<Class<?>>asList(Bean.class, String.class),
+                new ArrayList<Class<?>>(times.keySet()));
+        assertTrue(times.get(Bean.class) > 0);
+
+        times = BeanValidator.preload("com.github.nakamurakj.validator.constraints");
+        assertTrue(times.containsKey(KatakanaTest.Bean.class));
+        assertTrue(times.containsKey(KatakanaTest.SpaceBean.class));
+        assertFalse(times.containsKey(KatakanaTest.class));
+        assertFalse(times.containsKey(Katakana.class));
+
+        // jarファイルのクラスパス
+        assertTrue(BeanValidator.preload("javax.validation.constraints").isEmpty());
+    }
+
+    @Test
+    public void testPreloadClassConstraint() {
+        int initialized = ClassCheckValidator.INITIALIZED.get();
+        // nullを検証できないConstraintValidatorがあっても例外にしない
+        Map<Class<?>, Long> times = BeanValidator.preload(WarmupBean.class);
+        assertTrue(times.containsKey(WarmupBean.class));
+        // クラスに設定されたConstraintのConstraintValidatorも初期化する
+        assertTrue(ClassCheckValidator.INITIALIZED.get() > initialized);
+        assertTrue(BeanValidator.isValid(new WarmupBean()));
+    }
+
+    @Test
+    public void testValidateAll() {
+        List<Bean> beans = Arrays.asList(new Bean("001-1111", null), new Bean("xxx", "xxx"),
+                new Bean(null, null), new Bean(null, "xxx"), new Bean("xxx", null));
+
+        BatchValidationResult<Bean> result = BeanValidator.validateAll(beans);
+        assertFalse(result.isValid());
+        assertEquals(5, result.getValidatedCount());
+        assertEquals(3, result.getFailedCount());
+        assertEquals(4, result.size());
+        assertFalse(result.isStopped());
+        assertArrayEquals(new int[] {1, 3, 4}, result.getFailedIndexes());
+        assertEquals(1, result.getIndex(0));
+        assertEquals(1, result.getIndex(1));
+        assertEquals(2, result.getMessages(1).size());
+        assertEquals(0, result.getMessages(2).size());
+        assertEquals("telNo", result.getMessages(3).get(0).getTargetProperty());
+
+        result = BeanValidator.validateAll(beans, 2);
+        assertEquals(4, result.getValidatedCount());
+        assertEquals(2, result.getFailedCount());
+        assertTrue(result.isStopped());
+        assertArrayEquals(new int[] {1, 3}, result.getFailedIndexes());
+
+        result = BeanValidator.validateAll(beans.subList(0, 1));
+        assertTrue(result.isValid());
+    }
+
+    @Test
+    public void testValidateEach() {
+        List<Bean> beans = Arrays.asList(new Bean("001-1111", null), new Bean("xxx", "xxx"),
+                new Bean(null, null), new Bean(null, "xxx"), new Bean("xxx", null));
+        final List<Long> indexes = new ArrayList<Long>();
+        long failed = BeanValidator.validateEach(beans, new ViolationHandler<Bean>() {
+            @Override
+            public boolean handle(long index, ValidateMessage<Bean> message) {
+                indexes.add(index);
+                return true;
+            }
+        });
+        assertEquals(3, failed);
+        assertEquals(Arrays.asList(1L, 1L, 3L, 4L), indexes);
+
+        // falseを返した時点で打ち切る
+        indexes.clear();
+        failed = BeanValidator.validateEach(beans.iterator(), new ViolationHandler<Bean>() {
+            @Override
+            public boolean handle(long index, ValidateMessage<Bean> message) {
+                indexes.add(index);
+                return index < 3;
+            }
+        });
+        assertEquals(2, failed);
+        assertEquals(Arrays.asList(1L, 1L, 3L), indexes);
+
+        // 2件のエラーがある要素でも、falseを返した後のエラーは通知しない
+        indexes.clear();
+        failed = BeanValidator.validateEach(beans, new ViolationHandler<Bean>() {
+            @Override
+            public boolean handle(long index, ValidateMessage<Bean> message) {
+                indexes.add(index);
+                return false;
+            }
+        });
+        assertEquals(1, failed);
+        assertEquals(Arrays.asList(1L), indexes);
+    }
+
+    @Test
+    public void testValidateAllParallel() throws InterruptedException {
+        List<Bean> beans = new ArrayList<Bean>();
+        for (int i = 0; i < 1000; i++) {
+            beans.add(new Bean(i % 7 == 0 ? "xxx" : "001-1111", i % 11 == 0 ? "xxx" : null));
+        }
+        BatchValidationResult<Bean> expected = BeanValidator.validateAll(beans);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BatchValidationResult<Bean> result = BeanValidator.validateAll(beans, executor, 64);
+            assertEquals(1000, result.getValidatedCount());
+            assertEquals(expected.size(), result.size());
+            assertEquals(expected.getFailedCount(), result.getFailedCount());
+            assertArrayEquals(expected.getFailedIndexes(), result.getFailedIndexes());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidatorFactory() {
+        ValidatorFactory factory = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new MessageInterpolator() {
+                    @Override
+                    public String interpolate(String messageTemplate, Context context) {
+                        return "custom";
+                    }
+
+                    @Override
+                    public String interpolate(String messageTemplate, Context context,
+                            Locale locale) {
+                        return "custom";
+                    }
+                }).buildValidatorFactory();
+        BeanValidator.setValidatorFactory(factory);
+        assertSame(factory, BeanValidator.getValidatorFactory());
+
+        List<ValidateMessage<Bean>> messages = BeanValidator.validateBean(new Bean("xxx", null));
+        assertEquals(1, messages.size());
+        assertEquals("custom", messages.get(0).getMessage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidatorFactoryNull() {
+        BeanValidator.setValidatorFactory(null);
+    }
+
+}
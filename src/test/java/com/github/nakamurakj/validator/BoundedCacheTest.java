@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * {@link BoundedCache}のテストクラス
+ */
+public class BoundedCacheTest {
+
+    private static class LengthCache extends BoundedCache<String, Integer> {
+        int loaded;
+
+        LengthCache(int maximumSize) {
+            super(maximumSize);
+        }
+
+        @Override
+        protected Integer load(String key) {
+            loaded++;
+            return key.length();
+        }
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        LengthCache cache = new LengthCache(2);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(1, cache.loaded);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        LengthCache cache = new LengthCache(2);
+        cache.get("a");
+        cache.get("bb");
+        cache.get("ccc");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        // 最も古い"a"が破棄されている
+        cache.get("a");
+        assertEquals(4, cache.loaded);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPatternCache() {
+        long misses = Validators.getPatternCache().getMissCount();
+        assertTrue(Validators.isPatternMatch("abc", "^[a-c]+$"));
+        assertTrue(Validators.isPatternMatch("cab", "^[a-c]+$"));
+        assertFalse(Validators.isPatternMatch("abd", "^[a-c]+$"));
+        assertEquals(misses + 1, Validators.getPatternCache().getMissCount());
+    }
+
+    @Test
+    public void testCharsetCache() {
+        long misses = Validators.getCharsetCache().getMissCount();
+        assertTrue(Validators.isCharsetSupported("Windows-31J"));
+        assertTrue(Validators.isCharsetSupported("windows-31j"));
+        assertFalse(Validators.isCharsetSupported("no-such-charset"));
+        assertFalse(Validators.isCharsetSupported("NO-SUCH-CHARSET"));
+        assertFalse(Validators.isCharsetSupported("illegal name"));
+        assertFalse(Validators.isCharsetSupported(""));
+        assertFalse(Validators.isCharsetSupported(null));
+        assertEquals(misses + 4, Validators.getCharsetCache().getMissCount());
+
+        // 大文字に変換すると有効な名前になる非ASCII文字は無効のまま
+        assertFalse(Validators.isCharsetSupported("\u0131so-8859-1"));
+        assertFalse(Validators.isCharsetSupported("\u017Fhift_jis"));
+        assertTrue(Validators.isCharsetSupported("iso-8859-1"));
+    }
+
+}
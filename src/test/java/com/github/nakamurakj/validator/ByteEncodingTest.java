@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link ByteEncoding}と{@link Validators}のバイト列版のテストクラス
+ */
+public class ByteEncodingTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final Charset WINDOWS_31J = Charset.forName("Windows-31J");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * バイト列版のチェック結果が、JDKでデコードした文字列のチェック結果と一致することを確認する。
+     */
+    private static void assertSameAsDecoded(byte[] bytes, ByteEncoding encoding, Charset charset) {
+        String string = new String(bytes, charset);
+        String message = encoding + " " + toHex(bytes);
+        assertEquals(message, Validators.isHalfNumber(string),
+                Validators.isHalfNumber(bytes, 0, bytes.length));
+        assertEquals(message, Validators.isHalfKatakana(string),
+                Validators.isHalfKatakana(bytes, 0, bytes.length, encoding));
+        for (boolean options : new boolean[] {false, true}) {
+            assertEquals(message, Validators.isKatakana(string, options, options, options),
+                    Validators.isKatakana(bytes, 0, bytes.length, encoding, options, options,
+                            options));
+            assertEquals(message, Validators.isHiragana(string, options, options, options),
+                    Validators.isHiragana(bytes, 0, bytes.length, encoding, options, options,
+                            options));
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : bytes) {
+            builder.append(String.format("%02X", b & 0xFF));
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void testUtf8BruteForce() {
+        // 1バイト、2バイトのすべての組み合わせ
+        for (int b0 = 0; b0 < 0x100; b0++) {
+            assertSameAsDecoded(new byte[] {(byte) b0}, ByteEncoding.UTF_8, UTF_8);
+            for (int b1 = 0; b1 < 0x100; b1++) {
+                assertSameAsDecoded(new byte[] {(byte) b0, (byte) b1}, ByteEncoding.UTF_8, UTF_8);
+            }
+        }
+        // カナ、記号(E3)、半角カナ(EF)と、冗長な表現(E0)、サロゲート(ED)の3バイト
+        for (int b0 : new int[] {0xE0, 0xE3, 0xED, 0xEF}) {
+            for (int b1 = 0; b1 < 0x100; b1++) {
+                for (int b2 = 0; b2 < 0x100; b2++) {
+                    assertSameAsDecoded(new byte[] {(byte) b0, (byte) b1, (byte) b2},
+                            ByteEncoding.UTF_8, UTF_8);
+                }
+            }
+        }
+        // BMPのすべての文字
+        for (char c = 0; c < 0xFFFF; c++) {
+            if (!Character.isSurrogate(c)) {
+                assertSameAsDecoded(String.valueOf(c).getBytes(UTF_8), ByteEncoding.UTF_8, UTF_8);
+            }
+        }
+        // 4バイト
+        assertSameAsDecoded(new String(Character.toChars(0x20000)).getBytes(UTF_8),
+                ByteEncoding.UTF_8, UTF_8);
+    }
+
+    @Test
+    public void testShiftJisBruteForce() {
+        for (Charset charset : new Charset[] {WINDOWS_31J, Charset.forName("Shift_JIS")}) {
+            for (int b0 = 0; b0 < 0x100; b0++) {
+                assertSameAsDecoded(new byte[] {(byte) b0}, ByteEncoding.SHIFT_JIS, charset);
+                for (int b1 = 0; b1 < 0x100; b1++) {
+                    assertSameAsDecoded(new byte[] {(byte) b0, (byte) b1}, ByteEncoding.SHIFT_JIS,
+                            charset);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStrings() {
+        String[] strings = {"カタカナ", "カタカナ　ー", "ひらがな", "ひらがな ー", "ﾊﾝｶｸｶﾅ", "ｶﾅ ", "0123",
+            "カナかな", "漢字", "", "ヴァ", "ゝゞ"};
+        for (String string : strings) {
+            assertSameAsDecoded(string.getBytes(UTF_8), ByteEncoding.UTF_8, UTF_8);
+            assertSameAsDecoded(string.getBytes(WINDOWS_31J), ByteEncoding.SHIFT_JIS, WINDOWS_31J);
+        }
+        // 範囲の終端で途切れた文字
+        byte[] bytes = "カナ".getBytes(UTF_8);
+        assertFalse(Validators.isKatakana(bytes, 0, bytes.length - 1, ByteEncoding.UTF_8, false,
+                false, false));
+        bytes = "カナ".getBytes(WINDOWS_31J);
+        assertFalse(Validators.isKatakana(bytes, 0, bytes.length - 1, ByteEncoding.SHIFT_JIS,
+                false, false, false));
+    }
+
+    @Test
+    public void testByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap("12345ｱｲｳカナ".getBytes(WINDOWS_31J));
+        buffer.position(3);
+        assertTrue(Validators.isHalfNumber(buffer, 0, 5));
+        assertFalse(Validators.isHalfNumber(buffer, 0, 6));
+        assertTrue(Validators.isHalfKatakana(buffer, 5, 3, ByteEncoding.SHIFT_JIS));
+        assertTrue(Validators.isKatakana(buffer, 8, 4, ByteEncoding.SHIFT_JIS, false, false,
+                false));
+        assertEquals(3, buffer.position());
+        assertFalse(Validators.isHalfKatakana((ByteBuffer) null, 0, 0, ByteEncoding.UTF_8));
+        assertFalse(Validators.isHalfKatakana((byte[]) null, 0, 0, ByteEncoding.UTF_8));
+        try {
+            Validators.isHalfNumber(buffer, 10, 3);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // ignore
+        }
+        try {
+            Validators.isHalfKatakana(buffer, 0, 1, null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // ignore
+        }
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        // 固定長レコード(カナ氏名10バイト、電話番号10バイト)
+        File file = folder.newFile("records.dat");
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write("ﾔﾏﾀﾞ ﾀﾛｳ  0312345678".getBytes(WINDOWS_31J));
+            out.write("山田太郎  090-123456".getBytes(WINDOWS_31J));
+        } finally {
+            out.close();
+        }
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+                    file.length());
+            assertEquals(40, buffer.limit());
+            assertFalse(Validators.isHalfKatakana(buffer, 0, 10, ByteEncoding.SHIFT_JIS));
+            assertTrue(Validators.isHalfKatakana(buffer, 0, 4, ByteEncoding.SHIFT_JIS));
+            assertTrue(Validators.isHalfNumber(buffer, 10, 10));
+            assertFalse(Validators.isHalfKatakana(buffer, 20, 10, ByteEncoding.SHIFT_JIS));
+            assertFalse(Validators.isHalfNumber(buffer, 30, 10));
+        } finally {
+            raf.close();
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static org.junit.Assert.*;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+
+import org.junit.Test;
+
+/**
+ * {@link DateFormatMatcher}のテストクラス
+ */
+public class DateFormatMatcherTest {
+
+    /** 時の項目を含むフォーマット */
+    private static final String[] HOUR_PATTERNS = {
+            "hh:mm", "kk:mm", "KK:mm", "HH:mm", "hhmm", "yyyyMMddkkmm", "yyyy/MM/dd KK:mm" };
+
+    private static boolean parse(String pattern, String value) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setLenient(false);
+        String string = value.trim();
+        ParsePosition pos = new ParsePosition(0);
+        Object parsed = format.parseObject(string, pos);
+        return string.length() > 0 && parsed != null && pos.getErrorIndex() < 0
+                && pos.getIndex() == string.length();
+    }
+
+    private static void assertSameAsParser(String pattern, String value) {
+        assertEquals(pattern + " " + value, parse(pattern, value),
+                DateFormatMatcher.getInstance(pattern).matches(value));
+    }
+
+    @Test
+    public void testHour() {
+        for (String pattern : HOUR_PATTERNS) {
+            String prefix = pattern.startsWith("yyyy/") ? "2015/06/01 "
+                    : pattern.startsWith("yyyy") ? "20150601" : "";
+            String separator = pattern.endsWith(":mm") ? ":" : "";
+            for (int hour = 0; hour < 100; hour++) {
+                String hh = String.format("%02d", hour);
+                assertSameAsParser(pattern, prefix + hh + separator + "30");
+                // 桁数が同じでも区切り文字の位置が異なる値
+                assertSameAsParser(pattern, prefix + hh.charAt(0) + hour + separator + "3");
+                assertSameAsParser(pattern, prefix + hour + separator + "30");
+            }
+        }
+    }
+
+    @Test
+    public void testHourIrregular() {
+        assertTrue(parse("hh:mm", "005:1"));
+        assertTrue(DateFormatMatcher.getInstance("hh:mm").matches("005:1"));
+        assertTrue(DateFormatMatcher.getInstance("kk:mm").matches("001:1"));
+        assertTrue(DateFormatMatcher.getInstance("KK:mm").matches("011:1"));
+        assertFalse(DateFormatMatcher.getInstance("hh:mm").matches("00:10"));
+        assertFalse(DateFormatMatcher.getInstance("kk:mm").matches("00:10"));
+        assertFalse(DateFormatMatcher.getInstance("KK:mm").matches("12:10"));
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import javax.validation.ValidationException;
+
+import org.junit.Test;
+
+import com.github.nakamurakj.validator.BeanValidator.ValidateMessage;
+import com.github.nakamurakj.validator.constraints.DateFormat;
+import com.github.nakamurakj.validator.constraints.Katakana;
+import com.github.nakamurakj.validator.constraints.NumberString;
+import com.github.nakamurakj.validator.constraints.TelNo;
+import com.github.nakamurakj.validator.constraints.ZipCode;
+
+/**
+ * {@link GeneratedValidators}と{@link com.github.nakamurakj.validator.processor.ValidatorProcessor}のテストクラス
+ */
+public class GeneratedValidatorsTest {
+
+    public static class Base {
+        @ZipCode
+        public String zipCode;
+    }
+
+    public static class Bean extends Base {
+        @TelNo
+        private String telNo;
+
+        @NumberString(min = 2, max = 3)
+        String number;
+
+        @DateFormat("yyyy/MM/dd")
+        @Katakana(groups = Group.class)
+        public String date;
+
+        public String getTelNo() {
+            return telNo;
+        }
+
+        public Bean(String zipCode, String telNo, String number, String date) {
+            this.zipCode = zipCode;
+            this.telNo = telNo;
+            this.number = number;
+            this.date = date;
+        }
+    }
+
+    public static class SubBean extends Bean {
+        public SubBean(String zipCode) {
+            super(zipCode, null, null, null);
+        }
+    }
+
+    public interface Group {
+    }
+
+    @Test
+    public void testValidateBean() {
+        Bean bean = new Bean("001-1111", "03-1111-1111", "12", "2015/01/31");
+        assertTrue(GeneratedValidators.isValid(bean));
+        assertTrue(GeneratedValidators.validateBean(bean).isEmpty());
+
+        bean = new Bean("xxx", "xxx", "1", "2015/02/31");
+        assertFalse(GeneratedValidators.isValid(bean));
+        List<GeneratedViolation<Bean>> violations = GeneratedValidators.validateBean(bean);
+        List<ValidateMessage<Bean>> messages = BeanValidator.validateBean(bean);
+        assertEquals(4, violations.size());
+        assertEquals(messages.size(), violations.size());
+        for (GeneratedViolation<Bean> violation : violations) {
+            boolean found = false;
+            for (ValidateMessage<Bean> message : messages) {
+                found |= message.createErrorMessage().equals(violation.createErrorMessage());
+            }
+            assertTrue(violation.createErrorMessage(), found);
+        }
+
+        GeneratedViolation<Bean> violation = violations.get(2);
+        assertEquals("Bean", violation.getRootBeanName());
+        assertEquals("number", violation.getTargetProperty());
+        assertEquals("InvalidNumber", violation.getError());
+        assertEquals(NumberString.class, violation.getConstraint());
+        assertEquals("NumberString length must be between 2 and 3", violation.getMessage());
+    }
+
+    @Test
+    public void testSuperclassValidator() {
+        assertSame(GeneratedValidators.getValidator(Bean.class),
+                GeneratedValidators.getValidator(SubBean.class));
+        assertFalse(GeneratedValidators.isValid(new SubBean("xxx")));
+        assertEquals(Bean.class, GeneratedValidators.getValidator(SubBean.class).getBeanClass());
+    }
+
+    @Test
+    public void testValidatorClassName() {
+        assertEquals("a.b.Outer_Inner_Validator",
+                GeneratedValidators.getValidatorClassName("a.b.Outer$Inner"));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testNotGenerated() {
+        GeneratedValidators.isValid(new Object());
+    }
+
+    @Test
+    public void testNotGeneratedCached() {
+        long misses = 0;
+        for (int i = 0; i < 2; i++) {
+            try {
+                GeneratedValidators.getValidator(StringBuilder.class);
+                fail();
+            } catch (ValidationException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("java.lang.StringBuilder"));
+            }
+            if (i == 0) {
+                misses = GeneratedValidators.getValidatorCache().getMissCount();
+            }
+        }
+        // 2回目は存在しないことをキャッシュから判定する
+        assertEquals(misses, GeneratedValidators.getValidatorCache().getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNull() {
+        GeneratedValidators.validateBean(null);
+    }
+
+}
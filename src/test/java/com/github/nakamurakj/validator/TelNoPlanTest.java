@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.github.nakamurakj.validator.constraints.TelNo;
+
+/**
+ * {@link TelNoPlan}のテストクラス
+ */
+public class TelNoPlanTest {
+
+    public static class Bean {
+        @TelNo(areaCode = true)
+        public String telNo;
+
+        public Bean(String telNo) {
+            this.telNo = telNo;
+        }
+    }
+
+    @After
+    public void tearDown() {
+        TelNoPlan.setDefault(null);
+    }
+
+    private static TelNoPlan load(String text) throws IOException {
+        return TelNoPlan.load(new ByteArrayInputStream(text.getBytes("UTF-8")));
+    }
+
+    private static void assertTelNo(boolean valid, String telNo) {
+        assertEquals(telNo, valid, TelNoPlan.getDefault().matches(telNo));
+        assertEquals(telNo, valid, BeanValidator.validateBean(new Bean(telNo)).isEmpty());
+        assertEquals(telNo, valid, GeneratedValidators.isValid(new Bean(telNo)));
+    }
+
+    @Test
+    public void testDefault() {
+        // 市外局番2桁
+        assertTelNo(true, "03-1234-5678");
+        assertTelNo(true, "0312345678");
+        assertTelNo(false, "031-234-5678");
+        assertTelNo(true, "06-1234-5678");
+        assertTelNo(false, "0612-34-5678");
+
+        // 04は04-2、04-7のみ2桁
+        assertTelNo(true, "04-2922-1234");
+        assertTelNo(true, "04-7123-4567");
+        assertTelNo(false, "04-1234-5678");
+        assertTelNo(false, "01-2345-6789");
+        assertTelNo(false, "05-1234-5678");
+
+        // 3桁の市外局番
+        assertTelNo(true, "011-123-4567");
+        assertTelNo(true, "052-123-4567");
+        assertTelNo(true, "0112345678");
+        assertTelNo(false, "012-345-6789");
+        assertTelNo(false, "056-123-4567");
+        assertTelNo(false, "094-123-4567");
+        assertTelNo(false, "011234567");
+        assertTelNo(false, "011-1234-5678");
+
+        // 4桁の市外局番
+        assertTelNo(true, "0123-45-6789");
+        assertTelNo(true, "0561-12-3456");
+        assertTelNo(true, "0942-12-3456");
+        assertTelNo(true, "0561123456");
+        assertTelNo(false, "0561-123-456");
+
+        // 5桁の市外局番
+        assertTelNo(true, "01267-2-3456");
+        assertTelNo(true, "04992-2-1234");
+        assertTelNo(true, "09802-2-1234");
+        assertTelNo(false, "0126-72-3456");
+        assertTelNo(false, "01234-5-6789");
+        assertTelNo(false, "05612-3-4567");
+
+        // 携帯電話、IP電話
+        assertTelNo(true, "090-1234-5678");
+        assertTelNo(true, "09012345678");
+        assertTelNo(true, "050-1234-5678");
+        assertTelNo(false, "0901-234-5678");
+        assertTelNo(false, "0901234567");
+
+        // フリーダイヤル等
+        assertTelNo(true, "0120-123-456");
+        assertTelNo(true, "0120123456");
+        assertTelNo(true, "0800-123-4567");
+        assertTelNo(false, "0120-12-3456");
+
+        // 使用されていない番号
+        assertTelNo(false, "060-1234-5678");
+        assertTelNo(false, "010-123-4567");
+        assertTelNo(false, "0012345678");
+        assertTelNo(false, "1234567890");
+
+        // 形式不正
+        assertTelNo(false, "03-12345678");
+        assertTelNo(false, "03--1234-5678");
+        assertTelNo(false, "-03-1234-5678");
+        assertTelNo(false, "03-1234-5678-");
+        assertTelNo(false, "03-1234-567x");
+        assertTelNo(false, "090123456789");
+        assertTelNo(false, "");
+        assertTrue(BeanValidator.validateBean(new Bean(null)).isEmpty());
+    }
+
+    @Test
+    public void testLoad() throws IOException {
+        TelNoPlan plan = load("# comment\n0 2-4-4,3-3-4,4-2-4,5-1-4\n01 3-3-4  # comment\n0123 4-2-4,5-1-4\n019 -\n");
+        assertTrue(plan.matches("011-234-5678"));
+        assertFalse(plan.matches("01-2345-6789"));
+        assertTrue(plan.matches("0123-45-6789"));
+        assertTrue(plan.matches("01234-5-6789"));
+        assertFalse(plan.matches("012-345-6789"));
+        assertFalse(plan.matches("0191234567"));
+        assertTrue(plan.matches("05-1234-5678"));
+        assertFalse(plan.matches("1234567890"));
+
+        TelNoPlan.setDefault(plan);
+        assertSame(plan, TelNoPlan.getDefault());
+        assertTrue(BeanValidator.validateBean(new Bean("011-234-5678")).isEmpty());
+        assertFalse(GeneratedValidators.isValid(new Bean("01-2345-6789")));
+    }
+
+    @Test
+    public void testLoadInvalid() throws IOException {
+        String[] invalids = {"03", "0x 2-4-4", "03 2-4", "03 2-a-4", "03 0-4-4", "03 2-4-4 x", "03 *"};
+        for (String invalid : invalids) {
+            try {
+                load(invalid);
+                fail(invalid);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("line 1"));
+            }
+        }
+    }
+
+}
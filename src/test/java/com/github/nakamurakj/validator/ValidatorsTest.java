@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static org.junit.Assert.*;
+
+import java.nio.CharBuffer;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * {@link Validators}の{@link CharSequence}版のテストクラス
+ */
+public class ValidatorsTest {
+
+    /**
+     * 前後に余分な文字を持つバッファの一部を{@link CharBuffer}として切り出す。
+     */
+    private static CharBuffer wrap(String string) {
+        CharBuffer buffer = CharBuffer.wrap("##" + string + "##");
+        buffer.position(2);
+        buffer.limit(2 + string.length());
+        return buffer.slice();
+    }
+
+    @Test
+    public void testCharBuffer() {
+        assertTrue(Validators.isNumberString(wrap("-123"), 1, 4));
+        assertFalse(Validators.isNumberString(wrap("12a"), 1, 4));
+        assertTrue(Validators.isNumberString(wrap("123456789012345678901"), 1, 30, true));
+        assertTrue(Validators.isHalfNumber(wrap("0123")));
+        assertTrue(Validators.isHalfNumber(wrap("")));
+        assertFalse(Validators.isHalfNumber(wrap("０１")));
+        assertTrue(Validators.isTelNo(wrap("03-1111-1111"), null));
+        assertFalse(Validators.isTelNo(wrap("03-1111-111"), null));
+        assertTrue(Validators.isZipCode(wrap("001-1111"), null));
+        assertTrue(Validators.isZipCode(wrap("００１１１１１"), false, true, true));
+        assertFalse(Validators.isZipCode(wrap("0011111"), null));
+        assertTrue(Validators.isPatternMatch(wrap("abc"), "[a-c]+"));
+        assertTrue(Validators.isPatternMatch(wrap("ABC"), Pattern.compile("[a-c]+",
+                Pattern.CASE_INSENSITIVE)));
+        assertTrue(Validators.isBoolean(wrap("TRUE")));
+        assertFalse(Validators.isBoolean(wrap("yes")));
+        assertTrue(Validators.isYesOrNo(wrap("no")));
+        assertTrue(Validators.isToken(wrap("on"), new TokenSet(new String[] {"on", "off"}, false)));
+        assertTrue(Validators.isCharsetSupported(wrap("utf-8")));
+        assertTrue(Validators.isDateFormat(wrap("2015/01/31"), "yyyy/MM/dd"));
+        assertFalse(Validators.isDateFormat(wrap("2015/02/31"), "yyyy/MM/dd"));
+        assertTrue(Validators.isHalfKatakana(wrap("ｱｲｳ")));
+        assertTrue(Validators.isKatakana(wrap("アイ　ウー"), true, false, true));
+        assertFalse(Validators.isKatakana(wrap("アイ　ウー"), false, false, true));
+        assertTrue(Validators.isHiragana(wrap("あい う"), false, true, false));
+    }
+
+    @Test
+    public void testStringBuilder() {
+        assertTrue(Validators.isKatakana(new StringBuilder("カタカナ"), false, false, false));
+        assertFalse(Validators.isHiragana(new StringBuilder("カタカナ"), false, false, false));
+        assertTrue(Validators.isNumberString(new StringBuilder("42"), 1, 2));
+    }
+
+    @Test
+    public void testNull() {
+        CharSequence chars = null;
+        assertFalse(Validators.isNumberString(chars, 0, 1));
+        assertFalse(Validators.isHalfNumber(chars));
+        assertFalse(Validators.isTelNo(chars, null));
+        assertFalse(Validators.isZipCode(chars, null));
+        assertFalse(Validators.isPatternMatch(chars, "a"));
+        assertFalse(Validators.isBoolean(chars));
+        assertFalse(Validators.isYesOrNo(chars));
+        assertFalse(Validators.isCharsetSupported(chars));
+        assertFalse(Validators.isDateFormat(chars, "yyyy"));
+        assertFalse(Validators.isHalfKatakana(chars));
+        assertFalse(Validators.isKatakana(chars, false, false, false));
+        assertFalse(Validators.isHiragana(chars, false, false, false));
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.ValidatorFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.nakamurakj.validator.constraints.ZipCode;
+
+/**
+ * {@link ZipCodeIndex}のテストクラス
+ */
+public class ZipCodeIndexTest {
+
+    public static class Bean {
+        @ZipCode(exists = true, hyphen = ZipCode.Hyphen.OPTIONAL)
+        public String zipCode;
+
+        public Bean(String zipCode) {
+            this.zipCode = zipCode;
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ValidatorFactory defaultFactory = BeanValidator.getValidatorFactory();
+
+    private ValidatorFactory factory;
+
+    @Before
+    public void setUp() {
+        // ConstraintValidatorは初期化時のインデックスを保持するため、テストごとにValidatorFactoryを作成する
+        factory = Validation.buildDefaultValidatorFactory();
+        BeanValidator.setValidatorFactory(factory);
+    }
+
+    @After
+    public void tearDown() {
+        ZipCodeIndex.setDefault(null);
+        BeanValidator.setValidatorFactory(defaultFactory);
+        factory.close();
+    }
+
+    private static ZipCodeIndex loadSample() throws IOException {
+        InputStream in = ZipCodeIndexTest.class.getResourceAsStream("/ken_all_sample.csv");
+        try {
+            return ZipCodeIndex.fromKenAll(in, ZipCodeIndex.KEN_ALL_CHARSET);
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testContains() throws IOException {
+        ZipCodeIndex index = loadSample();
+        assertEquals(7, index.size());
+        assertTrue(index.contains(600000));
+        assertTrue(index.contains("0600000"));
+        assertTrue(index.contains("100-0001"));
+        assertTrue(index.contains("１００－０００５"));
+        assertTrue(index.contains("907-1801"));
+        assertFalse(index.contains("100-0002"));
+        assertFalse(index.contains("1000-001"));
+        assertFalse(index.contains("100000"));
+        assertFalse(index.contains("abcdefg"));
+        assertFalse(index.contains((String) null));
+        assertFalse(index.contains(-1));
+        assertFalse(index.contains(10000000));
+    }
+
+    @Test
+    public void testWriteAndLoad() throws IOException {
+        File file = folder.newFile("zipcode.idx");
+        loadSample().write(file);
+        assertEquals(8 + 10000000 / 8, file.length());
+
+        ZipCodeIndex index = ZipCodeIndex.load(file);
+        assertEquals(7, index.size());
+        assertTrue(index.contains("530-0001"));
+        assertTrue(index.contains("900-0001"));
+        assertFalse(index.contains("530-0002"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadInvalid() throws IOException {
+        ZipCodeIndex.load(folder.newFile("empty.idx"));
+    }
+
+    @Test
+    public void testExists() throws IOException {
+        ZipCodeIndex.setDefault(loadSample());
+        assertTrue(BeanValidator.validateBean(new Bean("064-0941")).isEmpty());
+        assertTrue(BeanValidator.validateBean(new Bean("0640941")).isEmpty());
+        assertEquals(1, BeanValidator.validateBean(new Bean("064-0942")).size());
+        assertEquals(1, BeanValidator.validateBean(new Bean("xxx")).size());
+        assertTrue(GeneratedValidators.isValid(new Bean("064-0941")));
+        assertFalse(GeneratedValidators.isValid(new Bean("064-0942")));
+    }
+
+    @Test
+    public void testNotLoaded() {
+        try {
+            BeanValidator.validateBean(new Bean("064-0941"));
+            fail();
+        } catch (ValidationException e) {
+            // インデックスがない場合はConstraintValidatorの初期化でエラーとする
+            Throwable cause = e;
+            while (cause != null && !String.valueOf(cause.getMessage()).contains("zip code index")) {
+                cause = cause.getCause();
+            }
+            assertNotNull(e.toString(), cause);
+            assertTrue(cause instanceof ValidationException);
+        }
+        // 存在チェックを行わない値(null)の検証前でも初期化時に検出する
+        try {
+            BeanValidator.validateBean(new Bean(null));
+            fail();
+        } catch (ValidationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIndexResolvedAtInitialize() throws IOException {
+        ZipCodeIndex.setDefault(loadSample());
+        assertTrue(BeanValidator.validateBean(new Bean("064-0941")).isEmpty());
+        // 初期化済みのConstraintValidatorは初期化時のインデックスを使い続ける
+        ZipCodeIndex.setDefault(null);
+        assertTrue(BeanValidator.validateBean(new Bean("064-0941")).isEmpty());
+        assertEquals(1, BeanValidator.validateBean(new Bean("064-0942")).size());
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.nakamurakj.validator.BeanValidator;
+import com.github.nakamurakj.validator.BeanValidator.ValidateMessage;
+import com.github.nakamurakj.validator.GeneratedValidators;
+import com.github.nakamurakj.validator.constraints.DateFormat;
+import com.github.nakamurakj.validator.constraints.HalfKatakana;
+import com.github.nakamurakj.validator.constraints.Katakana;
+import com.github.nakamurakj.validator.constraints.NumberString;
+import com.github.nakamurakj.validator.constraints.TelNo;
+import com.github.nakamurakj.validator.constraints.ZipCode;
+
+/**
+ * {@link BeanValidator#validateBean(Object)}のベンチマーク
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanValidatorBenchmark {
+
+    /** 顧客情報 */
+    public static class Customer {
+        @Katakana(space = true, longMarks = true)
+        public String nameKana;
+
+        @HalfKatakana
+        public String bankAccountName;
+
+        @ZipCode
+        public String zipCode;
+
+        @TelNo
+        public String telNo;
+
+        @NumberString(max = 10)
+        public String customerNo;
+
+        @DateFormat
+        public String registeredAt;
+    }
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private Customer[] customers;
+
+    @Setup
+    public void setUp() {
+        int size = Corpus.TEL_NO_VALID.length;
+        customers = new Customer[size];
+        for (int i = 0; i < size; i++) {
+            Customer customer = new Customer();
+            customer.nameKana = Corpus.select(input, Corpus.KATAKANA_VALID,
+                    Corpus.KATAKANA_INVALID)[i];
+            customer.bankAccountName = Corpus.select(input, Corpus.HALF_KATAKANA_VALID,
+                    Corpus.HALF_KATAKANA_INVALID)[i];
+            customer.zipCode = Corpus.select(input, Corpus.ZIP_CODE_VALID,
+                    Corpus.ZIP_CODE_INVALID)[i];
+            customer.telNo = Corpus.select(input, Corpus.TEL_NO_VALID, Corpus.TEL_NO_INVALID)[i];
+            customer.customerNo = Corpus.select(input, Corpus.HALF_NUMBER_VALID,
+                    Corpus.HALF_NUMBER_INVALID)[i];
+            customer.registeredAt = Corpus.select(input, Corpus.DATE_FORMAT_VALID,
+                    Corpus.DATE_FORMAT_INVALID)[i];
+            customers[i] = customer;
+        }
+    }
+
+    @Benchmark
+    public int validateBean() {
+        int count = 0;
+        for (Customer customer : customers) {
+            List<ValidateMessage<Customer>> messages = BeanValidator.validateBean(customer);
+            count += messages.size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int isValid() {
+        int count = 0;
+        for (Customer customer : customers) {
+            if (!BeanValidator.isValid(customer)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int generatedValidateBean() {
+        int count = 0;
+        for (Customer customer : customers) {
+            count += GeneratedValidators.validateBean(customer).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int generatedIsValid() {
+        int count = 0;
+        for (Customer customer : customers) {
+            if (!GeneratedValidators.isValid(customer)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int validateBeanMessages() {
+        int length = 0;
+        for (Customer customer : customers) {
+            for (ValidateMessage<Customer> message : BeanValidator.validateBean(customer)) {
+                length += message.createErrorMessage().length();
+            }
+        }
+        return length;
+    }
+
+}
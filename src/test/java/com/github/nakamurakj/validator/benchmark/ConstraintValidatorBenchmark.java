@@ -0,0 +1,224 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.benchmark;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.nakamurakj.validator.constraints.BooleanString;
+import com.github.nakamurakj.validator.constraints.Charset;
+import com.github.nakamurakj.validator.constraints.DateFormat;
+import com.github.nakamurakj.validator.constraints.HalfKatakana;
+import com.github.nakamurakj.validator.constraints.HalfNumber;
+import com.github.nakamurakj.validator.constraints.Hiragana;
+import com.github.nakamurakj.validator.constraints.Katakana;
+import com.github.nakamurakj.validator.constraints.NumberString;
+import com.github.nakamurakj.validator.constraints.TelNo;
+import com.github.nakamurakj.validator.constraints.YesNo;
+import com.github.nakamurakj.validator.constraints.ZipCode;
+import com.github.nakamurakj.validator.constraintsvalidaor.BooleanStringValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.CharsetValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.DateFormatValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.HalfKatakanaValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.HalfNumberValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.HiraganaValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.KatakanaValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.NumberStringValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.TelNoValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.YesNoValidator;
+import com.github.nakamurakj.validator.constraintsvalidaor.ZipCodeValidator;
+
+/**
+ * {@code ConstraintValidator}の実装ごとのベンチマーク
+ *
+ * <p>
+ * 1回の呼び出しで入力データ10件を検証する。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintValidatorBenchmark {
+
+    /** 制約の定義 */
+    static class Constraints {
+        @TelNo
+        String telNo;
+        @ZipCode
+        String zipCode;
+        @Katakana(space = true, longMarks = true)
+        String katakana;
+        @Hiragana(space = true, longMarks = true)
+        String hiragana;
+        @HalfKatakana
+        String halfKatakana;
+        @HalfNumber
+        String halfNumber;
+        @NumberString(max = 20)
+        String numberString;
+        @DateFormat
+        String dateFormat;
+        @BooleanString
+        String booleanString;
+        @YesNo
+        String yesNo;
+        @Charset
+        String charset;
+    }
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private final TelNoValidator telNoValidator = new TelNoValidator();
+    private final ZipCodeValidator zipCodeValidator = new ZipCodeValidator();
+    private final KatakanaValidator katakanaValidator = new KatakanaValidator();
+    private final HiraganaValidator hiraganaValidator = new HiraganaValidator();
+    private final HalfKatakanaValidator halfKatakanaValidator = new HalfKatakanaValidator();
+    private final HalfNumberValidator halfNumberValidator = new HalfNumberValidator();
+    private final NumberStringValidator numberStringValidator = new NumberStringValidator();
+    private final DateFormatValidator dateFormatValidator = new DateFormatValidator();
+    private final BooleanStringValidator booleanStringValidator = new BooleanStringValidator();
+    private final YesNoValidator yesNoValidator = new YesNoValidator();
+    private final CharsetValidator charsetValidator = new CharsetValidator();
+
+    private String[] telNo;
+    private String[] zipCode;
+    private String[] katakana;
+    private String[] hiragana;
+    private String[] halfKatakana;
+    private String[] halfNumber;
+    private String[] numberString;
+    private String[] dateFormat;
+    private String[] booleanString;
+    private String[] yesNo;
+    private String[] charset;
+
+    @Setup
+    public void setUp() throws Exception {
+        initialize(telNoValidator, "telNo", TelNo.class);
+        initialize(zipCodeValidator, "zipCode", ZipCode.class);
+        initialize(katakanaValidator, "katakana", Katakana.class);
+        initialize(hiraganaValidator, "hiragana", Hiragana.class);
+        initialize(halfKatakanaValidator, "halfKatakana", HalfKatakana.class);
+        initialize(halfNumberValidator, "halfNumber", HalfNumber.class);
+        initialize(numberStringValidator, "numberString", NumberString.class);
+        initialize(dateFormatValidator, "dateFormat", DateFormat.class);
+        initialize(booleanStringValidator, "booleanString", BooleanString.class);
+        initialize(yesNoValidator, "yesNo", YesNo.class);
+        initialize(charsetValidator, "charset", Charset.class);
+
+        telNo = Corpus.select(input, Corpus.TEL_NO_VALID, Corpus.TEL_NO_INVALID);
+        zipCode = Corpus.select(input, Corpus.ZIP_CODE_VALID, Corpus.ZIP_CODE_INVALID);
+        katakana = Corpus.select(input, Corpus.KATAKANA_VALID, Corpus.KATAKANA_INVALID);
+        hiragana = Corpus.select(input, Corpus.HIRAGANA_VALID, Corpus.HIRAGANA_INVALID);
+        halfKatakana = Corpus.select(input, Corpus.HALF_KATAKANA_VALID,
+                Corpus.HALF_KATAKANA_INVALID);
+        halfNumber = Corpus.select(input, Corpus.HALF_NUMBER_VALID, Corpus.HALF_NUMBER_INVALID);
+        numberString = Corpus.select(input, Corpus.NUMBER_STRING_VALID,
+                Corpus.NUMBER_STRING_INVALID);
+        dateFormat = Corpus.select(input, Corpus.DATE_FORMAT_VALID, Corpus.DATE_FORMAT_INVALID);
+        booleanString = Corpus.select(input, Corpus.BOOLEAN_VALID, Corpus.BOOLEAN_INVALID);
+        yesNo = Corpus.select(input, Corpus.YES_NO_VALID, Corpus.YES_NO_INVALID);
+        charset = Corpus.select(input, Corpus.CHARSET_VALID, Corpus.CHARSET_INVALID);
+    }
+
+    private static <A extends Annotation> void initialize(ConstraintValidator<A, ?> validator,
+            String field, Class<A> type) throws NoSuchFieldException {
+        validator.initialize(Constraints.class.getDeclaredField(field).getAnnotation(type));
+    }
+
+    private static void run(ConstraintValidator<?, String> validator, String[] values,
+            Blackhole bh) {
+        for (String value : values) {
+            bh.consume(validator.isValid(value, null));
+        }
+    }
+
+    @Benchmark
+    public void telNo(Blackhole bh) {
+        run(telNoValidator, telNo, bh);
+    }
+
+    @Benchmark
+    public void zipCode(Blackhole bh) {
+        run(zipCodeValidator, zipCode, bh);
+    }
+
+    @Benchmark
+    public void katakana(Blackhole bh) {
+        run(katakanaValidator, katakana, bh);
+    }
+
+    @Benchmark
+    public void hiragana(Blackhole bh) {
+        run(hiraganaValidator, hiragana, bh);
+    }
+
+    @Benchmark
+    public void halfKatakana(Blackhole bh) {
+        run(halfKatakanaValidator, halfKatakana, bh);
+    }
+
+    @Benchmark
+    public void halfNumber(Blackhole bh) {
+        run(halfNumberValidator, halfNumber, bh);
+    }
+
+    @Benchmark
+    public void numberString(Blackhole bh) {
+        run(numberStringValidator, numberString, bh);
+    }
+
+    @Benchmark
+    public void dateFormat(Blackhole bh) {
+        run(dateFormatValidator, dateFormat, bh);
+    }
+
+    @Benchmark
+    public void booleanString(Blackhole bh) {
+        run(booleanStringValidator, booleanString, bh);
+    }
+
+    @Benchmark
+    public void yesNo(Blackhole bh) {
+        run(yesNoValidator, yesNo, bh);
+    }
+
+    @Benchmark
+    public void charset(Blackhole bh) {
+        run(charsetValidator, charset, bh);
+    }
+
+}
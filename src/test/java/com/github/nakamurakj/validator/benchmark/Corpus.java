@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.benchmark;
+
+/**
+ * ベンチマークで利用する入力データ
+ *
+ * <p>
+ * 制約ごとに正常値と異常値を用意する。異常値は実際の取り込みデータで多い誤り(桁数、全角/半角、区切り文字など)を含める。
+ * </p>
+ */
+final class Corpus {
+
+    static final String[] TEL_NO_VALID = {
+        "03-1234-5678", "06-6123-4567", "011-234-5678", "0123-45-6789", "01267-1-2345",
+        "090-1234-5678", "080-9876-5432", "070-1111-2222", "050-3333-4444", "045-987-6543"};
+    static final String[] TEL_NO_INVALID = {
+        "0312345678", "03-1234-567", "060-1234-5678", "090-123-45678", "03-12345-678",
+        "０３-１２３４-５６７８", "03(1234)5678", "", "090-1234-5678-", "abc-defg-hijk"};
+
+    static final String[] ZIP_CODE_VALID = {
+        "100-0001", "060-0000", "530-0001", "900-0001", "001-1111",
+        "150-0002", "812-0011", "980-0811", "460-0008", "730-0011"};
+    static final String[] ZIP_CODE_INVALID = {
+        "1000001", "100-001", "１００-０００１", "100_0001", "10-00001",
+        "", "100-00011", "ABC-DEFG", "100 0001", "〒100-0001"};
+
+    static final String[] KATAKANA_VALID = {
+        "ヤマダ　タロウ", "スズキ", "タナカ　ハナコ", "サトウ", "コーヒー",
+        "ワタナベ　ケンイチ", "イトウ", "ナカムラ", "コバヤシ　ミホ", "カトウ"};
+    static final String[] KATAKANA_INVALID = {
+        "やまだ　たろう", "ﾔﾏﾀﾞ ﾀﾛｳ", "山田太郎", "ヤマダ タロウ", "Yamada",
+        "スズキ1", "", "タナカ（ハナコ）", "サトウ、", "　"};
+
+    static final String[] HIRAGANA_VALID = {
+        "やまだ　たろう", "すずき", "たなか　はなこ", "さとう", "こーひー",
+        "わたなべ　けんいち", "いとう", "なかむら", "こばやし　みほ", "かとう"};
+    static final String[] HIRAGANA_INVALID = {
+        "ヤマダ　タロウ", "ﾔﾏﾀﾞ", "山田太郎", "やまだ たろう", "yamada",
+        "すずき1", "", "たなか（はなこ）", "さとう、", "　"};
+
+    static final String[] HALF_KATAKANA_VALID = {
+        "ﾔﾏﾀﾞﾀﾛｳ", "ｽｽﾞｷ", "ﾀﾅｶﾊﾅｺ", "ｻﾄｳ", "ｺｰﾋｰ",
+        "ﾜﾀﾅﾍﾞｹﾝｲﾁ", "ｲﾄｳ", "ﾅｶﾑﾗ", "ｺﾊﾞﾔｼﾐﾎ", "ｶﾄｳ"};
+    static final String[] HALF_KATAKANA_INVALID = {
+        "ﾔﾏﾀﾞ ﾀﾛｳ", "ヤマダ", "やまだ", "ｽｽﾞｷ1", "Suzuki",
+        "", "ﾀﾅｶ(ﾊﾅｺ)", "ｻﾄｳ.", "山田", "ﾅｶﾑﾗ　"};
+
+    static final String[] HALF_NUMBER_VALID = {
+        "0", "1234567890", "000123", "9999999999999", "42",
+        "20150101", "1000000", "314159", "271828", "1"};
+    static final String[] HALF_NUMBER_INVALID = {
+        "１２３", "12a", "-1", "1.5", "1,000",
+        " 1", "abc", "0x10", "1e10", "１"};
+
+    static final String[] NUMBER_STRING_VALID = {
+        "0", "1234567890", "-123", "+42", "9223372036854775807",
+        "-9223372036854775808", "１２３", "000", "99", "123456789012345678"};
+    static final String[] NUMBER_STRING_INVALID = {
+        "abc", "12a", "-", "+", "1.5",
+        "9223372036854775808", "1,000", " 1", "0x10", "1e10"};
+
+    static final String[] DATE_FORMAT_VALID = {
+        "20150101000000", "20151231235959", "20160229120000", "19991231235959", "20000101000000",
+        "20130102030405", "20200630101010", "20011111111111", "20150704180000", "20151010101010"};
+    static final String[] DATE_FORMAT_INVALID = {
+        "20150229000000", "20151301000000", "20150132000000", "20150101240000", "20150101006000",
+        "2015010100000", "2015-01-01 00:00:00", "xxx", "", "201501010000000"};
+
+    static final String[] BOOLEAN_VALID = {
+        "true", "false", "TRUE", "FALSE", "True", "False", "tRuE", "fAlSe", "true", "false"};
+    static final String[] BOOLEAN_INVALID = {
+        "yes", "no", "1", "0", "t", "f", "truee", "", "on", "off"};
+
+    static final String[] YES_NO_VALID = {
+        "yes", "no", "YES", "NO", "Yes", "No", "yEs", "nO", "yes", "no"};
+    static final String[] YES_NO_INVALID = {
+        "true", "false", "y", "n", "1", "0", "yess", "", "on", "off"};
+
+    static final String[] CHARSET_VALID = {
+        "UTF-8", "Shift_JIS", "Windows-31J", "EUC-JP", "ISO-2022-JP",
+        "US-ASCII", "utf-8", "MS932", "UTF-16", "ISO-8859-1"};
+    static final String[] CHARSET_INVALID = {
+        "xxx", "UTF-9", "SJIS-X", "", "utf8mb4",
+        "unknown", "EUC_JPX", "Shift-JIS-2004x", "latin-9x", "cp99999"};
+
+    /**
+     * コンストラクタ
+     */
+    private Corpus() {
+        // ignore
+    }
+
+    /**
+     * 正常値または異常値を選択する。
+     *
+     * @param input "valid"または"invalid"
+     * @param valid 正常値
+     * @param invalid 異常値
+     * @return 選択した入力データ
+     */
+    static String[] select(String input, String[] valid, String[] invalid) {
+        return "valid".equals(input) ? valid : invalid;
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.nakamurakj.validator.Validators;
+
+/**
+ * {@link Validators}のチェックごとのベンチマーク
+ *
+ * <p>
+ * 1回の呼び出しで入力データ10件をチェックする。
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorsBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String[] telNo;
+    private String[] zipCode;
+    private String[] katakana;
+    private String[] hiragana;
+    private String[] halfKatakana;
+    private String[] halfNumber;
+    private String[] numberString;
+    private String[] dateFormat;
+    private String[] booleanString;
+    private String[] yesNo;
+    private String[] charset;
+
+    @Setup
+    public void setUp() {
+        telNo = Corpus.select(input, Corpus.TEL_NO_VALID, Corpus.TEL_NO_INVALID);
+        zipCode = Corpus.select(input, Corpus.ZIP_CODE_VALID, Corpus.ZIP_CODE_INVALID);
+        katakana = Corpus.select(input, Corpus.KATAKANA_VALID, Corpus.KATAKANA_INVALID);
+        hiragana = Corpus.select(input, Corpus.HIRAGANA_VALID, Corpus.HIRAGANA_INVALID);
+        halfKatakana = Corpus.select(input, Corpus.HALF_KATAKANA_VALID,
+                Corpus.HALF_KATAKANA_INVALID);
+        halfNumber = Corpus.select(input, Corpus.HALF_NUMBER_VALID, Corpus.HALF_NUMBER_INVALID);
+        numberString = Corpus.select(input, Corpus.NUMBER_STRING_VALID,
+                Corpus.NUMBER_STRING_INVALID);
+        dateFormat = Corpus.select(input, Corpus.DATE_FORMAT_VALID, Corpus.DATE_FORMAT_INVALID);
+        booleanString = Corpus.select(input, Corpus.BOOLEAN_VALID, Corpus.BOOLEAN_INVALID);
+        yesNo = Corpus.select(input, Corpus.YES_NO_VALID, Corpus.YES_NO_INVALID);
+        charset = Corpus.select(input, Corpus.CHARSET_VALID, Corpus.CHARSET_INVALID);
+    }
+
+    @Benchmark
+    public void isTelNo(Blackhole bh) {
+        for (String value : telNo) {
+            bh.consume(Validators.isTelNo(value, null));
+        }
+    }
+
+    @Benchmark
+    public void isZipCode(Blackhole bh) {
+        for (String value : zipCode) {
+            bh.consume(Validators.isZipCode(value, null));
+        }
+    }
+
+    @Benchmark
+    public void isKatakana(Blackhole bh) {
+        for (String value : katakana) {
+            bh.consume(Validators.isKatakana(value, true, false, true));
+        }
+    }
+
+    @Benchmark
+    public void isHiragana(Blackhole bh) {
+        for (String value : hiragana) {
+            bh.consume(Validators.isHiragana(value, true, false, true));
+        }
+    }
+
+    @Benchmark
+    public void isHalfKatakana(Blackhole bh) {
+        for (String value : halfKatakana) {
+            bh.consume(Validators.isHalfKatakana(value));
+        }
+    }
+
+    @Benchmark
+    public void isHalfNumber(Blackhole bh) {
+        for (String value : halfNumber) {
+            bh.consume(Validators.isHalfNumber(value));
+        }
+    }
+
+    @Benchmark
+    public void isNumberString(Blackhole bh) {
+        for (String value : numberString) {
+            bh.consume(Validators.isNumberString(value, 1, 20));
+        }
+    }
+
+    @Benchmark
+    public void isDateFormat(Blackhole bh) {
+        for (String value : dateFormat) {
+            bh.consume(Validators.isDateFormat(value, "yyyyMMddHHmmss"));
+        }
+    }
+
+    @Benchmark
+    public void isBoolean(Blackhole bh) {
+        for (String value : booleanString) {
+            bh.consume(Validators.isBoolean(value));
+        }
+    }
+
+    @Benchmark
+    public void isYesOrNo(Blackhole bh) {
+        for (String value : yesNo) {
+            bh.consume(Validators.isYesOrNo(value));
+        }
+    }
+
+    @Benchmark
+    public void isCharsetSupported(Blackhole bh) {
+        for (String value : charset) {
+            bh.consume(Validators.isCharsetSupported(value));
+        }
+    }
+
+    @Benchmark
+    public void isPatternMatch(Blackhole bh) {
+        for (String value : halfNumber) {
+            bh.consume(Validators.isPatternMatch(value, "^[0-9]*$"));
+        }
+    }
+
+}
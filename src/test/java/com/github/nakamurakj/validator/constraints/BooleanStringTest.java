@@ -32,6 +32,11 @@ public class BooleanStringTest {
         public String value;
     }
 
+    public static class TokenClass {
+        @BooleanString(values = {"1", "0", "on", "off"})
+        public String value;
+    }
+
     @Test
     public void test() throws IllegalArgumentException {
         TestClass testClass = new TestClass();
@@ -62,4 +67,17 @@ public class BooleanStringTest {
         assertEquals("The format of \"true\" or \"false\" is invalid.", message.get(0).getMessage());
     }
 
+    @Test
+    public void testValues() {
+        TokenClass tokenClass = new TokenClass();
+        for (String value : new String[] {"1", "0", "on", "OFF", "On"}) {
+            tokenClass.value = value;
+            assertEquals(value, 0, BeanValidator.validateBean(tokenClass).size());
+        }
+        for (String value : new String[] {"true", "false", "2", "of", "onn", ""}) {
+            tokenClass.value = value;
+            assertEquals(value, 1, BeanValidator.validateBean(tokenClass).size());
+        }
+    }
+
 }
@@ -61,6 +61,25 @@ public class DateFormatTest {
         testClass.value2 = "20130102";
         message = BeanValidator.validateBean(testClass);
         assertEquals(0, message.size());
+
+        // 存在しない日付はエラー
+        testClass.value2 = "20130229";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+        testClass.value2 = "20120229";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(0, message.size());
+        testClass.value2 = "20131301";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+
+        testClass.value2 = null;
+        testClass.value = "20130102240000";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+        testClass.value = "20130102235959";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(0, message.size());
     }
 
 }
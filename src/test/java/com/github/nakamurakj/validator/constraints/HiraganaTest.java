@@ -37,6 +37,11 @@ public class HiraganaTest {
         public String str;
     }
 
+    public static class SpaceBean {
+        @Hiragana(space = true, halfSpace = true, longMarks = true)
+        public String str;
+    }
+
     @Test
     public void test() {
         Bean bean = new Bean();
@@ -55,4 +60,22 @@ public class HiraganaTest {
         assertEquals("The format of \"Hiragana\" is invalid.", validates.get(0).getMessage());
     }
 
+    @Test
+    public void testSpace() {
+        Bean bean = new Bean();
+        bean.str = "ひらがな　ひらがな";
+        assertEquals(1, BeanValidator.validateBean(bean).size());
+
+        SpaceBean spaceBean = new SpaceBean();
+        spaceBean.str = "ひらがな　ひらがな ひらがなー";
+        assertEquals(0, BeanValidator.validateBean(spaceBean).size());
+
+        // スペース、長音のみはエラー
+        spaceBean.str = "　 ー";
+        assertEquals(1, BeanValidator.validateBean(spaceBean).size());
+
+        spaceBean.str = "ひらがな ア";
+        assertEquals(1, BeanValidator.validateBean(spaceBean).size());
+    }
+
 }
@@ -37,6 +37,11 @@ public class KatakanaTest {
         public String str;
     }
 
+    public static class SpaceBean {
+        @Katakana(space = true, halfSpace = true, longMarks = true)
+        public String str;
+    }
+
     @Test
     public void test() {
         Bean bean = new Bean();
@@ -55,4 +60,22 @@ public class KatakanaTest {
         assertEquals("The format of \"Katakana\" is invalid.", validates.get(0).getMessage());
     }
 
+    @Test
+    public void testSpace() {
+        Bean bean = new Bean();
+        bean.str = "カタカナ　カタカナ";
+        assertEquals(1, BeanValidator.validateBean(bean).size());
+
+        SpaceBean spaceBean = new SpaceBean();
+        spaceBean.str = "カタカナ　カタカナ カタカナー";
+        assertEquals(0, BeanValidator.validateBean(spaceBean).size());
+
+        // スペース、長音のみはエラー
+        spaceBean.str = "　 ー";
+        assertEquals(1, BeanValidator.validateBean(spaceBean).size());
+
+        spaceBean.str = "カタカナ あ";
+        assertEquals(1, BeanValidator.validateBean(spaceBean).size());
+    }
+
 }
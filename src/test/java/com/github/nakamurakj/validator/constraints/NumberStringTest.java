@@ -37,6 +37,14 @@ public class NumberStringTest {
         public String value;
     }
 
+    public static class TestClass3 {
+        @NumberString(min=1, max=30)
+        public String value;
+
+        @NumberString(min=1, max=30, arbitraryLength=true)
+        public String arbitrary;
+    }
+
 
     @Test
     public void test() throws IllegalArgumentException {
@@ -74,4 +82,35 @@ public class NumberStringTest {
         assertEquals("NumberString length must be between 1 and 18", message2.get(0).getMessage());
     }
 
+    @Test
+    public void test3() throws IllegalArgumentException {
+        TestClass3 testClass3 = new TestClass3();
+
+        testClass3.value = "-9223372036854775808";
+        List<ValidateMessage<TestClass3>> message3 = BeanValidator.validateBean(testClass3);
+        assertEquals(0, message3.size());
+
+        // longの範囲外はエラー
+        testClass3.value = "9223372036854775808";
+        message3 = BeanValidator.validateBean(testClass3);
+        assertEquals(1, message3.size());
+
+        testClass3.value = "-";
+        message3 = BeanValidator.validateBean(testClass3);
+        assertEquals(1, message3.size());
+
+        testClass3.value = null;
+        testClass3.arbitrary = "+123456789012345678901234567890";
+        message3 = BeanValidator.validateBean(testClass3);
+        assertEquals(1, message3.size());
+
+        testClass3.arbitrary = "-12345678901234567890123456789";
+        message3 = BeanValidator.validateBean(testClass3);
+        assertEquals(0, message3.size());
+
+        testClass3.arbitrary = "12345678901234567890x";
+        message3 = BeanValidator.validateBean(testClass3);
+        assertEquals(1, message3.size());
+    }
+
 }
@@ -20,10 +20,13 @@ import static org.junit.Assert.*;
 
 import java.util.List;
 
+import javax.validation.constraints.Pattern;
+
 import org.junit.Test;
 
 import com.github.nakamurakj.validator.BeanValidator;
 import com.github.nakamurakj.validator.BeanValidator.ValidateMessage;
+import com.github.nakamurakj.validator.GeneratedValidators;
 
 public class TelNoTest {
 
@@ -32,6 +35,35 @@ public class TelNoTest {
         public String value;
     }
 
+    public static class RegexpClass {
+        @TelNo(regexp = "\\+81-[0-9]{1,4}-[0-9]{1,4}-[0-9]{4}")
+        public String international;
+
+        @TelNo(regexp = "tel:[0-9-]+", flags = Pattern.Flag.CASE_INSENSITIVE, areaCode = true)
+        public String uri;
+    }
+
+    private static void assertRegexp(boolean valid, RegexpClass target) {
+        assertEquals(valid, BeanValidator.validateBean(target).isEmpty());
+        assertEquals(valid, GeneratedValidators.isValid(target));
+    }
+
+    @Test
+    public void testRegexp() {
+        RegexpClass target = new RegexpClass();
+        target.international = "+81-3-1234-5678";
+        assertRegexp(true, target);
+        target.international = "03-1234-5678";
+        assertRegexp(false, target);
+        target.international = null;
+
+        // 正規表現はareaCodeより優先する
+        target.uri = "TEL:03-1234-5678";
+        assertRegexp(true, target);
+        target.uri = "03-1234-5678";
+        assertRegexp(false, target);
+    }
+
     @Test
     public void test() throws IllegalArgumentException {
         List<ValidateMessage<TestClass>> message;
@@ -95,6 +127,25 @@ public class TelNoTest {
         message = BeanValidator.validateBean(testClass);
         assertEquals(1, message.size());
 
+        // 携帯電話等の番号は4桁-4桁のみ
+        testClass.value = "090-111-1111";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+        testClass.value = "0901-11-1111";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+
+        // 桁数不正
+        testClass.value = "0-12345-1111";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+        testClass.value = "03-1111-111-";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+        testClass.value = "03--111-1111";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+
     }
 
 }
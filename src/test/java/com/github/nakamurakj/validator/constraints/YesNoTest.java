@@ -32,6 +32,11 @@ public class YesNoTest {
         public String value;
     }
 
+    public static class TokenClass {
+        @YesNo(values = {"はい", "いいえ", "Y", "N"}, ignoreCase = false)
+        public String value;
+    }
+
     @Test
     public void test() throws IllegalArgumentException {
         TestClass testClass = new TestClass();
@@ -51,6 +56,27 @@ public class YesNoTest {
         message = BeanValidator.validateBean(testClass);
         assertEquals(1, message.size());
         assertEquals("The format of \"yes\" or \"no\" is invalid.", message.get(0).getMessage());
+
+        testClass.value = "YeS";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(0, message.size());
+
+        testClass.value = "yess";
+        message = BeanValidator.validateBean(testClass);
+        assertEquals(1, message.size());
+    }
+
+    @Test
+    public void testValues() {
+        TokenClass tokenClass = new TokenClass();
+        for (String value : new String[] {"はい", "いいえ", "Y", "N"}) {
+            tokenClass.value = value;
+            assertEquals(value, 0, BeanValidator.validateBean(tokenClass).size());
+        }
+        for (String value : new String[] {"yes", "no", "y", "n", "はいい", ""}) {
+            tokenClass.value = value;
+            assertEquals(value, 1, BeanValidator.validateBean(tokenClass).size());
+        }
     }
 
 }
@@ -20,10 +20,13 @@ import static org.junit.Assert.*;
 
 import java.util.List;
 
+import javax.validation.constraints.Pattern;
+
 import org.junit.Test;
 
 import com.github.nakamurakj.validator.BeanValidator;
 import com.github.nakamurakj.validator.BeanValidator.ValidateMessage;
+import com.github.nakamurakj.validator.GeneratedValidators;
 
 /**
  * {@link ZipCode}のテストクラス
@@ -39,6 +42,67 @@ public class ZipCodeTest {
         public String zipCode;
     }
 
+    public static class OptionTarget {
+        @ZipCode(hyphen = ZipCode.Hyphen.OPTIONAL)
+        public String optional;
+
+        @ZipCode(hyphen = ZipCode.Hyphen.FORBIDDEN)
+        public String forbidden;
+
+        @ZipCode(hyphen = ZipCode.Hyphen.OPTIONAL, fullWidth = true)
+        public String fullWidth;
+
+        @ZipCode(regexp = "[0-9]{3}")
+        public String regexp;
+
+        @ZipCode(regexp = "t[0-9]{3}", flags = Pattern.Flag.CASE_INSENSITIVE)
+        public String flags;
+    }
+
+    private static void assertZipCode(boolean valid, OptionTarget target) {
+        assertEquals(valid, BeanValidator.validateBean(target).isEmpty());
+        assertEquals(valid, GeneratedValidators.isValid(target));
+    }
+
+    @Test
+    public void testOptions() {
+        OptionTarget target = new OptionTarget();
+        target.optional = "001-1111";
+        assertZipCode(true, target);
+        target.optional = "0011111";
+        assertZipCode(true, target);
+        target.optional = "001111";
+        assertZipCode(false, target);
+        target.optional = "0011-111";
+        assertZipCode(false, target);
+        target.optional = null;
+
+        target.forbidden = "0011111";
+        assertZipCode(true, target);
+        target.forbidden = "001-1111";
+        assertZipCode(false, target);
+        target.forbidden = null;
+
+        target.fullWidth = "００１－１１１１";
+        assertZipCode(true, target);
+        target.fullWidth = "００１1111";
+        assertZipCode(true, target);
+        target.fullWidth = "００１ー１１１１";
+        assertZipCode(false, target);
+        target.fullWidth = null;
+
+        target.regexp = "001";
+        assertZipCode(true, target);
+        target.regexp = "001-1111";
+        assertZipCode(false, target);
+        target.regexp = null;
+
+        target.flags = "T001";
+        assertZipCode(true, target);
+        target.flags = "X001";
+        assertZipCode(false, target);
+    }
+
     @Test
     public void testZipCode() {
         TestTarget testTarget = new TestTarget("001-1111");
@@ -50,6 +114,9 @@ public class ZipCodeTest {
         results = BeanValidator.validateBean(testTarget);
         assertEquals(1, results.size());
 
+        assertEquals(1, BeanValidator.validateBean(new TestTarget("0011111")).size());
+        assertEquals(1, BeanValidator.validateBean(new TestTarget("００１－１１１１")).size());
+
         ValidateMessage<TestTarget> message = results.get(0);
         assertEquals("The format of the zipcode is invalid.", message.getMessage());
     }
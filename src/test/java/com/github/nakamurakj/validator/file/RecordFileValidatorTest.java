@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.file;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.nakamurakj.validator.ByteEncoding;
+
+/**
+ * {@link RecordFileValidator}のテストクラス
+ */
+public class RecordFileValidatorTest {
+
+    private static final Charset WINDOWS_31J = Charset.forName("Windows-31J");
+
+    /** カナ氏名(10バイト)、金額(10バイト)、改行(2バイト) */
+    private static final RecordLayout LAYOUT = new RecordLayout(22)
+            .addColumn("name", 0, 10,
+                    FieldChecks.trimRight(FieldChecks.halfKatakana(ByteEncoding.SHIFT_JIS), false))
+            .addColumn("amount", 10, 10, FieldChecks.halfNumber());
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File write(String... records) throws IOException {
+        File file = folder.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            for (String record : records) {
+                out.write(record.getBytes(WINDOWS_31J));
+            }
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    @Test
+    public void testValidate() throws IOException {
+        File file = write(
+                "ﾔﾏﾀﾞﾀﾛｳ   0000012345\r\n",
+                "山田太郎  0000012345\r\n",
+                "ｽｽﾞｷ      00000-1234\r\n",
+                "          0000000001\r\n",
+                "ｻﾄｳ       0000000001\r\n",
+                "ﾀﾅｶ");
+        RecordValidationResult result = new RecordFileValidator(LAYOUT).validate(file);
+        assertFalse(result.isValid());
+        assertEquals(5, result.getRecordCount());
+        assertEquals(4, result.getFailedCount());
+        assertEquals(4, result.size());
+        assertEquals(1, result.getRow(0));
+        assertEquals(0, result.getColumn(0));
+        assertEquals("name", result.getColumnName(0));
+        assertEquals(2, result.getRow(1));
+        assertEquals("amount", result.getColumnName(1));
+        assertEquals(3, result.getRow(2));
+        assertEquals("name", result.getColumnName(2));
+        assertEquals(5, result.getRow(3));
+        assertEquals(RecordValidationResult.INCOMPLETE_RECORD, result.getColumn(3));
+        assertNull(result.getColumnName(3));
+
+        result = new RecordFileValidator(LAYOUT).validate(write());
+        assertTrue(result.isValid());
+        assertEquals(0, result.getRecordCount());
+    }
+
+    @Test
+    public void testValidateParallel() throws IOException, InterruptedException {
+        String[] records = new String[1000];
+        for (int i = 0; i < records.length; i++) {
+            String name = i % 7 == 0 ? "ｶﾅ1       " : "ｶﾅ        ";
+            String amount = i % 11 == 0 ? "000000000x" : String.format("%010d", i);
+            records[i] = name + amount + "\r\n";
+        }
+        File file = write(records);
+        RecordFileValidator validator = new RecordFileValidator(LAYOUT);
+        RecordValidationResult expected = validator.validate(file);
+        assertEquals(1000, expected.getRecordCount());
+        assertEquals(1000 / 7 + 1 + 1000 / 11 + 1, expected.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            RecordValidationResult result = validator.validate(file, executor, 64);
+            assertEquals(expected.getRecordCount(), result.getRecordCount());
+            assertEquals(expected.getFailedCount(), result.getFailedCount());
+            assertEquals(expected.size(), result.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.getRow(i), result.getRow(i));
+                assertEquals(expected.getColumn(i), result.getColumn(i));
+            }
+            assertEquals(expected.size(), validator.validate(file, executor).size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testMaxFailures() throws IOException, InterruptedException {
+        File file = write(
+                "ﾔﾏﾀﾞﾀﾛｳ   0000012345\r\n",
+                "山田太郎  0000012345\r\n",
+                "ｽｽﾞｷ      00000-1234\r\n",
+                "          0000000001\r\n",
+                "ｻﾄｳ       0000000001\r\n",
+                "ﾀﾅｶ");
+        RecordFileValidator validator = new RecordFileValidator(LAYOUT);
+        RecordValidationResult result = validator.validate(file, 3);
+        assertTrue(result.isStopped());
+        assertEquals(3, result.getFailedCount());
+        assertEquals(4, result.getRecordCount());
+        assertEquals(3, result.getRow(result.size() - 1));
+
+        result = validator.validate(file, 4);
+        assertFalse(result.isStopped());
+        assertEquals(4, result.getFailedCount());
+        assertEquals(RecordValidationResult.INCOMPLETE_RECORD, result.getColumn(3));
+
+        String[] records = new String[1000];
+        for (int i = 0; i < records.length; i++) {
+            String name = i % 7 == 0 ? "ｶﾅ1       " : "ｶﾅ        ";
+            String amount = i % 11 == 0 ? "000000000x" : String.format("%010d", i);
+            records[i] = name + amount + "\r\n";
+        }
+        file = write(records);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int maxFailures : new int[] { 1, 2, 10, 99, 1000 }) {
+                RecordValidationResult expected = validator.validate(file, maxFailures);
+                assertEquals(Math.min(maxFailures, 1000 / 7 + 1000 / 11 - 1000 / 77 + 1),
+                        expected.getFailedCount());
+                assertEquals(maxFailures < 1000, expected.isStopped());
+                if (expected.isStopped()) {
+                    assertEquals(expected.getRow(expected.size() - 1) + 1, expected.getRecordCount());
+                }
+                for (int chunkRecords : new int[] { 1, 7, 64 }) {
+                    result = validator.validate(file, executor, chunkRecords, maxFailures);
+                    assertEquals(expected.isStopped(), result.isStopped());
+                    assertEquals(expected.getRecordCount(), result.getRecordCount());
+                    assertEquals(expected.getFailedCount(), result.getFailedCount());
+                    assertEquals(expected.size(), result.size());
+                    for (int i = 0; i < expected.size(); i++) {
+                        assertEquals(expected.getRow(i), result.getRow(i));
+                        assertEquals(expected.getColumn(i), result.getColumn(i));
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxFailuresZero() throws IOException {
+        new RecordFileValidator(LAYOUT).validate(write(), 0);
+    }
+
+    @Test
+    public void testTrimRight() {
+        ByteBuffer buffer = ByteBuffer.wrap("ｱｲ   ".getBytes(WINDOWS_31J));
+        FieldCheck check = FieldChecks.halfKatakana(ByteEncoding.SHIFT_JIS);
+        assertFalse(check.isValid(buffer, 0, 5));
+        assertTrue(FieldChecks.trimRight(check, false).isValid(buffer, 0, 5));
+        assertFalse(FieldChecks.trimRight(check, false).isValid(buffer, 2, 3));
+        assertTrue(FieldChecks.trimRight(check, true).isValid(buffer, 2, 3));
+
+        // 長さ0を許容するチェックでも、空欄を許容しない場合はエラーとする
+        buffer = ByteBuffer.wrap("     ".getBytes(WINDOWS_31J));
+        check = FieldChecks.halfNumber();
+        assertTrue(check.isValid(buffer, 0, 0));
+        assertFalse(FieldChecks.trimRight(check, false).isValid(buffer, 0, 5));
+        assertTrue(FieldChecks.trimRight(check, true).isValid(buffer, 0, 5));
+    }
+
+    @Test
+    public void testHalfKatakanaSpace() throws IOException {
+        RecordLayout layout = new RecordLayout(22)
+                .addColumn("name", 0, 10, FieldChecks.trimRight(
+                        FieldChecks.halfKatakana(ByteEncoding.SHIFT_JIS, true), false))
+                .addColumn("amount", 10, 10, FieldChecks.halfNumber());
+        File file = write(
+                "ﾔﾏﾀﾞ ﾀﾛｳ  0000012345\r\n",
+                "ﾔﾏﾀﾞﾀﾛｳ   0000012345\r\n",
+                "ﾔﾏﾀﾞ　ﾀﾛｳ 0000012345\r\n",
+                "          0000012345\r\n");
+        RecordValidationResult result = new RecordFileValidator(layout).validate(file);
+        assertEquals(2, result.size());
+        assertEquals(2, result.getRow(0));
+        assertEquals(3, result.getRow(1));
+
+        // 半角スペースを許容しない場合は区切りのある氏名をエラーとする
+        result = new RecordFileValidator(LAYOUT).validate(file);
+        assertEquals(3, result.size());
+        assertEquals(0, result.getRow(0));
+
+        ByteBuffer buffer = ByteBuffer.wrap("ﾔﾏﾀﾞ ﾀﾛｳ".getBytes(WINDOWS_31J));
+        FieldCheck check = FieldChecks.halfKatakana(ByteEncoding.SHIFT_JIS, true);
+        assertTrue(check.isValid(buffer, 0, buffer.limit()));
+        assertFalse(check.isValid(buffer, 4, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testColumnOutOfRecord() {
+        new RecordLayout(10).addColumn("x", 5, 6, FieldChecks.halfNumber());
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 https://github.com/nakamurakj
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.nakamurakj.validator.metrics;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.github.nakamurakj.validator.BeanValidator;
+import com.github.nakamurakj.validator.constraints.TelNo;
+import com.github.nakamurakj.validator.constraints.ZipCode;
+
+/**
+ * {@link ValidationMetrics}のテストクラス
+ */
+public class ValidationMetricsTest {
+
+    public static class Bean {
+        @ZipCode
+        public String zipCode;
+
+        @TelNo
+        public String telNo;
+
+        public Bean(String zipCode, String telNo) {
+            this.zipCode = zipCode;
+            this.telNo = telNo;
+        }
+    }
+
+    @After
+    public void tearDown() {
+        Instrumentation.setListener(null);
+    }
+
+    @Test
+    public void testMetrics() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        Instrumentation.setListener(metrics);
+        assertTrue(Instrumentation.isEnabled());
+
+        BeanValidator.validateBean(new Bean("001-1111", "03-1111-1111"));
+        BeanValidator.validateBean(new Bean("xxx", "03-1111-1111"));
+        BeanValidator.validateBean(new Bean("xxx", "xxx"));
+
+        ValidationStatistics zipCode = metrics.getConstraintStatistics(ZipCode.class);
+        assertEquals(3, zipCode.getCallCount());
+        assertEquals(2, zipCode.getFailureCount());
+        assertEquals(3, zipCode.getLatency().getCount());
+        ValidationStatistics telNo = metrics.getConstraintStatistics(TelNo.class);
+        assertEquals(3, telNo.getCallCount());
+        assertEquals(1, telNo.getFailureCount());
+        ValidationStatistics bean = metrics.getBeanStatistics(Bean.class);
+        assertEquals(3, bean.getCallCount());
+        assertEquals(2, bean.getFailureCount());
+
+        assertEquals(Long.valueOf(3), metrics.getConstraintCallCounts().get(ZipCode.class.getName()));
+        assertEquals(Long.valueOf(2), metrics.getBeanFailureCounts().get(Bean.class.getName()));
+        assertTrue(metrics.getBeanLatencyPercentile(Bean.class.getName(), 50) > 0);
+        assertEquals(0, metrics.getBeanLatencyPercentile("unknown", 50));
+
+        metrics.reset();
+        assertEquals(0, zipCode.getCallCount());
+        assertEquals(0, bean.getLatency().getCount());
+    }
+
+    @Test
+    public void testDisabled() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        Instrumentation.setListener(metrics);
+        Instrumentation.setListener(null);
+        assertFalse(Instrumentation.isEnabled());
+
+        BeanValidator.validateBean(new Bean("xxx", "xxx"));
+        assertNull(metrics.getConstraintStatistics(ZipCode.class));
+        assertNull(metrics.getBeanStatistics(Bean.class));
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        ValidationMetrics metrics = new ValidationMetrics();
+        ObjectName name = new ObjectName(ValidationMetrics.OBJECT_NAME);
+        metrics.registerMBean();
+        try {
+            assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        } finally {
+            metrics.unregisterMBean();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    @Test
+    public void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        long p50 = histogram.getPercentile(50);
+        assertTrue(String.valueOf(p50), p50 >= 470 && p50 <= 500);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(String.valueOf(p99), p99 >= 940 && p99 <= 990);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+}